@@ -0,0 +1,484 @@
+package tech.grove.birch.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+//-- Generates <Record>_BirchCodec for every @GenerateCodec record and lists them in
+//-- META-INF/services/tech.grove.birch.codegen.GeneratedCodec. The generated code calls accessors and the canonical
+//-- constructor directly and builds component types through TypeFactory, so nothing is introspected at runtime.
+//-- Lives in the birch-processor module, outside the runtime jar, so it only runs where it is put on the processor path
+@SupportedAnnotationTypes("tech.grove.birch.codegen.GenerateCodec")
+public class CodecProcessor extends AbstractProcessor {
+
+    private static final String SUFFIX             = "_BirchCodec";
+    private static final String GENERATED_CODEC    = "tech.grove.birch.codegen.GeneratedCodec";
+    private static final String JSON_PROPERTY      = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_IGNORE        = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String JACKSON_ANNOTATION = "com.fasterxml.jackson.annotation.JacksonAnnotation";
+    private static final String JACKSON_INSIDE     = "com.fasterxml.jackson.annotation.JacksonAnnotationsInside";
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+
+        annotations.forEach(annotation -> round.getElementsAnnotatedWith(annotation).forEach(this::generate));
+
+        if (round.processingOver() && !generated.isEmpty()) {
+            writeServices();
+        }
+
+        return true;
+    }
+
+    private void generate(Element element) {
+
+        if (element.getKind() != ElementKind.RECORD) {
+            error(element, "@GenerateCodec is only supported on records");
+            return;
+        }
+
+        var type = (TypeElement) element;
+
+        if (!type.getTypeParameters().isEmpty()) {
+            error(element, "@GenerateCodec is not supported on generic records");
+            return;
+        }
+
+        if (isPrivate(type)) {
+            error(element, "@GenerateCodec records must not be private");
+            return;
+        }
+
+        var parameters = canonicalParameters(type);
+        var components = new ArrayList<Component>();
+
+        for (int i = 0; i < type.getRecordComponents().size(); i++) {
+            components.add(new Component(type, type.getRecordComponents().get(i), parameters.get(i)));
+        }
+
+        if (!isSupported(type, components)) {
+            return;
+        }
+
+        var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        var simpleName  = simpleName(type) + SUFFIX;
+        var className   = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(className, type).openWriter()) {
+            writer.write(source(packageName, simpleName, type.getQualifiedName().toString(), components));
+            generated.add(className);
+        } catch (IOException e) {
+            error(element, "Cannot generate codec: " + e.getMessage());
+        }
+    }
+
+    private String source(String packageName, String className, String recordName, List<Component> components) {
+        var out = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+
+        out.append("@javax.annotation.processing.Generated(\"").append(CodecProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(className)
+                .append(" implements ").append(GENERATED_CODEC).append("<").append(recordName).append("> {\n\n")
+                .append("    private static final String[]   NAMES    = {")
+                .append(components.stream().map(x -> quote(x.jsonName)).collect(Collectors.joining(", ")))
+                .append("};\n")
+                .append("    private static final Class<?>[] CLASSES  = {")
+                .append(components.stream().map(x -> processingEnv.getTypeUtils().erasure(x.type) + ".class").collect(Collectors.joining(", ")))
+                .append("};\n")
+                .append("    private static final boolean[]  EXPLICIT = {")
+                .append(components.stream().map(x -> String.valueOf(x.explicit)).collect(Collectors.joining(", ")))
+                .append("};\n")
+                .append("    private static final boolean[]  IGNORED  = {")
+                .append(components.stream().map(x -> String.valueOf(x.ignored)).collect(Collectors.joining(", ")))
+                .append("};\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(recordName).append("> type() {\n")
+                .append("        return ").append(recordName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public com.fasterxml.jackson.databind.JsonSerializer<").append(recordName).append("> serializer() {\n")
+                .append("        return new Serializer();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public com.fasterxml.jackson.databind.JsonDeserializer<").append(recordName).append("> deserializer() {\n")
+                .append("        return new Deserializer();\n")
+                .append("    }\n\n");
+
+        serializer(out, recordName, components);
+        deserializer(out, recordName, components);
+
+        return out.append("}\n").toString();
+    }
+
+    private void serializer(StringBuilder out, String recordName, List<Component> components) {
+        out.append("    private static final class Serializer extends tech.grove.birch.codegen.RecordSerializer<").append(recordName).append("> {\n\n")
+                .append("        private static final long serialVersionUID = 1L;\n\n")
+                .append("        private Serializer() {\n")
+                .append("            super(").append(recordName).append(".class, NAMES, CLASSES, EXPLICIT);\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        protected void writeFields(").append(recordName).append(" value,\n")
+                .append("                                   com.fasterxml.jackson.core.JsonGenerator gen,\n")
+                .append("                                   com.fasterxml.jackson.databind.SerializerProvider provider,\n")
+                .append("                                   com.fasterxml.jackson.core.SerializableString[] names,\n")
+                .append("                                   boolean[] skipNulls) throws java.io.IOException {\n");
+
+        for (int i = 0; i < components.size(); i++) {
+            var component = components.get(i);
+            var value     = "value." + component.accessor + "()";
+
+            if (component.ignored) {
+                continue;
+            }
+
+            switch (component.kind) {
+                case BOOLEAN -> out.append("            gen.writeFieldName(names[").append(i).append("]);\n")
+                        .append("            gen.writeBoolean(").append(value).append(");\n");
+                case CHAR -> out.append("            gen.writeFieldName(names[").append(i).append("]);\n")
+                        .append("            gen.writeString(String.valueOf(").append(value).append("));\n");
+                case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> out.append("            gen.writeFieldName(names[").append(i).append("]);\n")
+                        .append("            gen.writeNumber(").append(value).append(");\n");
+                default -> {
+                    if (isString(component.type)) {
+                        out.append("            writeString(gen, names[").append(i).append("], ").append(value).append(", skipNulls[").append(i).append("]);\n");
+                    } else {
+                        out.append("            writeDelegate(gen, provider, names[").append(i).append("], ").append(value).append(", skipNulls[").append(i).append("]);\n");
+                    }
+                }
+            }
+        }
+
+        out.append("        }\n")
+                .append("    }\n\n");
+    }
+
+    private void deserializer(StringBuilder out, String recordName, List<Component> components) {
+        out.append("    private static final class Deserializer extends tech.grove.birch.codegen.RecordDeserializer<").append(recordName).append("> {\n\n")
+                .append("        private static final long serialVersionUID = 1L;\n\n")
+                .append("        private Deserializer() {\n")
+                .append("            super(").append(recordName).append(".class, NAMES, EXPLICIT, IGNORED);\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        protected com.fasterxml.jackson.databind.JavaType[] types(com.fasterxml.jackson.databind.type.TypeFactory factory) {\n")
+                .append("            return new com.fasterxml.jackson.databind.JavaType[]{\n");
+
+        for (var component : components) {
+            out.append("                    ").append(typeExpression(component.type)).append(",\n");
+        }
+
+        out.append("            };\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        protected Object read(int position,\n")
+                .append("                              com.fasterxml.jackson.core.JsonParser p,\n")
+                .append("                              com.fasterxml.jackson.databind.DeserializationContext ctxt) throws java.io.IOException {\n")
+                .append("            var token = p.currentToken();\n\n")
+                .append("            switch (position) {\n");
+
+        for (int i = 0; i < components.size(); i++) {
+            var fastPath = fastPath(components.get(i));
+
+            if (fastPath != null) {
+                out.append("                case ").append(i).append(":\n")
+                        .append("                    ").append(fastPath).append("\n")
+                        .append("                    break;\n");
+            }
+        }
+
+        out.append("                default:\n")
+                .append("                    break;\n")
+                .append("            }\n\n")
+                .append("            return readDelegate(position, p, ctxt);\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        @SuppressWarnings(\"unchecked\")\n")
+                .append("        protected ").append(recordName).append(" create(Object[] values) {\n")
+                .append("            return new ").append(recordName).append("(");
+
+        for (int i = 0; i < components.size(); i++) {
+            var component = components.get(i);
+            var value     = "values[" + i + "]";
+
+            out.append(i == 0 ? "\n                    " : ",\n                    ");
+
+            if (component.type.getKind().isPrimitive()) {
+                out.append(value).append(" == null ? ").append(defaultValue(component.kind))
+                        .append(" : (").append(component.type).append(") ").append(value);
+            } else {
+                out.append("(").append(component.type).append(") ").append(value);
+            }
+        }
+
+        out.append(");\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    //-- Reads the common scalar tokens straight off the parser; anything else (including coercions) goes to the
+    //-- delegate Jackson resolved for the component type
+    private static String fastPath(Component component) {
+        var type = boxed(component);
+
+        return switch (type) {
+            case "java.lang.Integer" -> "if (token == com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT) return p.getIntValue();";
+            case "java.lang.Long" -> "if (token == com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT) return p.getLongValue();";
+            case "java.lang.Double" -> "if (token == com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_FLOAT || token == com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT) return p.getDoubleValue();";
+            case "java.lang.Float" -> "if (token == com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_FLOAT || token == com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT) return p.getFloatValue();";
+            case "java.lang.Boolean" -> "if (token == com.fasterxml.jackson.core.JsonToken.VALUE_TRUE || token == com.fasterxml.jackson.core.JsonToken.VALUE_FALSE) return token == com.fasterxml.jackson.core.JsonToken.VALUE_TRUE;";
+            case "java.lang.String" -> "if (token == com.fasterxml.jackson.core.JsonToken.VALUE_STRING) return p.getText();";
+            default -> null;
+        };
+    }
+
+    private static String boxed(Component component) {
+        return switch (component.kind) {
+            case INT -> "java.lang.Integer";
+            case LONG -> "java.lang.Long";
+            case DOUBLE -> "java.lang.Double";
+            case FLOAT -> "java.lang.Float";
+            case BOOLEAN -> "java.lang.Boolean";
+            default -> component.type.toString();
+        };
+    }
+
+    private static String defaultValue(TypeKind kind) {
+        return switch (kind) {
+            case BOOLEAN -> "false";
+            case CHAR -> "'\\0'";
+            case BYTE -> "(byte) 0";
+            case SHORT -> "(short) 0";
+            case LONG -> "0L";
+            case FLOAT -> "0.0f";
+            case DOUBLE -> "0.0d";
+            default -> "0";
+        };
+    }
+
+    private String typeExpression(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE -> "factory.constructType(" + type + ".class)";
+            case ARRAY -> "factory.constructArrayType(" + typeExpression(((ArrayType) type).getComponentType()) + ")";
+            case DECLARED -> {
+                var declared = (DeclaredType) type;
+                var raw      = processingEnv.getTypeUtils().erasure(type) + ".class";
+
+                if (declared.getTypeArguments().isEmpty()) {
+                    yield "factory.constructType(" + raw + ")";
+                }
+
+                yield "factory.constructParametricType(" + raw + ", " + declared.getTypeArguments().stream()
+                        .map(this::typeExpression)
+                        .collect(Collectors.joining(", ")) + ")";
+            }
+            case WILDCARD -> {
+                var bound = ((WildcardType) type).getExtendsBound();
+
+                yield (bound == null) ? "factory.constructType(Object.class)" : typeExpression(bound);
+            }
+            default -> "factory.constructType(Object.class)";
+        };
+    }
+
+    //-- Jackson reads more than a name or an ignore marker off a record (formats, inclusion, custom (de)serializers,
+    //-- aliases, polymorphism...). The generated code implements none of that, so rather than silently disagreeing
+    //-- with the reflective mapper such records are refused at compile time
+    private boolean isSupported(TypeElement type, List<Component> components) {
+        var supported = true;
+
+        for (var mirror : type.getAnnotationMirrors()) {
+            if (isJackson(mirror)) {
+                error(type, "@GenerateCodec does not support @" + simpleName(mirror) + " on the record");
+                supported = false;
+            }
+        }
+
+        for (var component : components) {
+            for (var mirror : component.annotations.values()) {
+                var name = mirror.getAnnotationType().toString();
+
+                if (!isJackson(mirror)) {
+                    continue;
+                }
+
+                if (!name.equals(JSON_PROPERTY) && !name.equals(JSON_IGNORE)) {
+                    error(component.element, "@GenerateCodec does not support @" + simpleName(mirror));
+                    supported = false;
+                } else if (mirror.getElementValues().keySet().stream().anyMatch(x -> !x.getSimpleName().contentEquals("value"))) {
+                    error(component.element, "@GenerateCodec only supports the value of @" + simpleName(mirror));
+                    supported = false;
+                }
+            }
+        }
+
+        return supported;
+    }
+
+    private static boolean isJackson(AnnotationMirror mirror) {
+        return mirror.getAnnotationType().asElement().getAnnotationMirrors().stream()
+                .map(x -> x.getAnnotationType().toString())
+                .anyMatch(x -> x.equals(JACKSON_ANNOTATION) || x.equals(JACKSON_INSIDE));
+    }
+
+    private static String simpleName(AnnotationMirror mirror) {
+        return mirror.getAnnotationType().asElement().getSimpleName().toString();
+    }
+
+    //-- Parameters of the canonical constructor, compact or not, in component order
+    private static List<? extends VariableElement> canonicalParameters(TypeElement type) {
+        var names = type.getRecordComponents().stream()
+                .map(x -> x.getSimpleName().toString())
+                .toList();
+
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .map(x -> x.getParameters())
+                .filter(x -> x.stream().map(y -> y.getSimpleName().toString()).toList().equals(names))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    //-- An incremental build only hands over the records that changed, so codecs listed by an earlier compilation
+    //-- are kept as long as their classes still exist
+    private void writeServices() {
+        var resource = "META-INF/services/" + GENERATED_CODEC;
+        var entries  = new TreeSet<>(generated);
+
+        try (var reader = new BufferedReader(processingEnv.getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", resource)
+                .openReader(true))) {
+            reader.lines()
+                    .map(String::strip)
+                    .filter(x -> !x.isEmpty() && !x.startsWith("#"))
+                    .filter(x -> processingEnv.getElementUtils().getTypeElement(x) != null)
+                    .forEach(entries::add);
+        } catch (IOException e) {
+            //-- Nothing listed yet
+        }
+
+        try (var writer = new PrintWriter(processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", resource)
+                .openWriter())) {
+            entries.forEach(writer::println);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + resource + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean isPrivate(TypeElement type) {
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String simpleName(TypeElement type) {
+        var names = new ArrayList<String>();
+
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            names.addFirst(current.getSimpleName().toString());
+        }
+
+        return String.join("_", names);
+    }
+
+    private static boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && type.toString().equals("java.lang.String");
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    //-- Jackson annotations are not applicable to record components; they propagate to the field, the accessor and
+    //-- the canonical constructor parameter, or sit on an explicitly declared accessor, so all of those are collected
+    private static final class Component {
+
+        private final RecordComponentElement        element;
+        private final Map<String, AnnotationMirror> annotations = new LinkedHashMap<>();
+        private final String                        accessor;
+        private final TypeMirror                    type;
+        private final TypeKind                      kind;
+        private final String                        jsonName;
+        private final boolean                       explicit;
+        private final boolean                       ignored;
+
+        private Component(TypeElement record, RecordComponentElement element, VariableElement parameter) {
+            var field = ElementFilter.fieldsIn(record.getEnclosedElements()).stream()
+                    .filter(x -> x.getSimpleName().contentEquals(element.getSimpleName()))
+                    .findFirst()
+                    .orElseThrow();
+
+            for (Element annotated : List.of(element, field, element.getAccessor(), parameter)) {
+                annotated.getAnnotationMirrors().forEach(x -> annotations.putIfAbsent(x.getAnnotationType().toString(), x));
+            }
+
+            var property = annotationValue(JSON_PROPERTY);
+            var ignore   = annotationValue(JSON_IGNORE);
+
+            this.element  = element;
+            this.accessor = element.getSimpleName().toString();
+            this.type     = element.asType();
+            this.kind     = type.getKind();
+            this.explicit = property != null && !property.isEmpty();
+            this.jsonName = explicit ? property : accessor;
+            this.ignored  = ignore != null && !ignore.equals("false");
+        }
+
+        private String annotationValue(String annotation) {
+            var mirror = annotations.get(annotation);
+
+            if (mirror == null) {
+                return null;
+            }
+
+            return mirror.getElementValues().entrySet().stream()
+                    .filter(x -> x.getKey().getSimpleName().contentEquals("value"))
+                    .map(x -> String.valueOf(x.getValue().getValue()))
+                    .findFirst()
+                    .orElse("");
+        }
+    }
+}
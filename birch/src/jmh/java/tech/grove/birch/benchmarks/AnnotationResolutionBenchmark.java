@@ -0,0 +1,93 @@
+package tech.grove.birch.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.reflection.Reflector;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnnotationResolutionBenchmark {
+
+    private Method shallow;
+    private Method deep;
+    private Method missing;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        shallow = Level0.class.getMethod("getValue");
+        deep    = DeepBean.class.getMethod("getValue");
+        missing = DeepBean.class.getMethod("getOther");
+    }
+
+    @Benchmark
+    public JsonProperty shallowAnnotation() {
+        return Reflector.method(shallow).getAnnotation(JsonProperty.class);
+    }
+
+    @Benchmark
+    public JsonProperty deepAnnotation() {
+        return Reflector.method(deep).getAnnotation(JsonProperty.class);
+    }
+
+    @Benchmark
+    public JsonProperty deepMissingAnnotation() {
+        return Reflector.method(missing).getAnnotation(JsonProperty.class);
+    }
+
+    @Benchmark
+    public String deepJsonName() {
+        return Reflector.method(deep).jsonName();
+    }
+
+    public interface Level0 {
+
+        @JsonProperty("value")
+        String getValue();
+    }
+
+    public interface Level1 extends Level0 {
+    }
+
+    public interface Level2 extends Level1 {
+    }
+
+    public interface Level3 extends Level2, Level1 {
+    }
+
+    public interface Level4 extends Level3 {
+    }
+
+    public interface Level5 extends Level4, Level2 {
+    }
+
+    public interface Level6 extends Level5 {
+    }
+
+    public interface Level7 extends Level6, Level3 {
+    }
+
+    public abstract static class BaseBean implements Level4 {
+    }
+
+    public abstract static class MiddleBean extends BaseBean implements Level5 {
+    }
+
+    public static class DeepBean extends MiddleBean implements Level7 {
+
+        @Override
+        public String getValue() {
+            return "value";
+        }
+
+        public String getOther() {
+            return "other";
+        }
+    }
+}
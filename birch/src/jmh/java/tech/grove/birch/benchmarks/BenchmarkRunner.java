@@ -0,0 +1,19 @@
+package tech.grove.birch.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+
+        var include = (args.length > 0) ? args[0] : ".*";
+
+        new Runner(new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,91 @@
+package tech.grove.birch.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.reflection.DeepCopier;
+import tech.grove.birch.serialization.FluentMapper;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.creators.MapperBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeepCopyBenchmark {
+
+    private ObjectMapper mapper;
+    private TestRecord   record;
+    private Catalog      catalog;
+
+    @Setup
+    public void setup() {
+        mapper  = MapperBuilder.mapperFor(MapperMode.JSON).build();
+        record  = new TestRecord(1, "benchmark");
+        catalog = new Catalog();
+
+        IntStream.range(0, 20).forEach(x -> catalog.getRecords().add(new TestRecord(x, "record-" + x)));
+        IntStream.range(0, 20).forEach(x -> catalog.getCounts().put("key-" + x, x));
+    }
+
+    @Benchmark
+    public TestRecord recordJsonRoundTrip() {
+        return FluentMapper.instance(record).asJson().asType(TestRecord.class).get();
+    }
+
+    @Benchmark
+    public TestRecord recordNativeRoundTrip() throws JsonProcessingException {
+        return mapper.readValue(mapper.writeValueAsString(record), TestRecord.class);
+    }
+
+    @Benchmark
+    public TestRecord recordCopy() {
+        return DeepCopier.copy(record);
+    }
+
+    @Benchmark
+    public Catalog beanJsonRoundTrip() {
+        return FluentMapper.instance(catalog).asJson().asType(Catalog.class).get();
+    }
+
+    @Benchmark
+    public Catalog beanCopy() {
+        return DeepCopier.copy(catalog);
+    }
+
+    @Benchmark
+    public Catalog beanCopyGraph() {
+        return DeepCopier.copyGraph(catalog);
+    }
+
+    public static class Catalog {
+
+        private List<TestRecord>     records = new ArrayList<>();
+        private Map<String, Integer> counts  = new HashMap<>();
+
+        public List<TestRecord> getRecords() {
+            return records;
+        }
+
+        public void setRecords(List<TestRecord> records) {
+            this.records = records;
+        }
+
+        public Map<String, Integer> getCounts() {
+            return counts;
+        }
+
+        public void setCounts(Map<String, Integer> counts) {
+            this.counts = counts;
+        }
+    }
+}
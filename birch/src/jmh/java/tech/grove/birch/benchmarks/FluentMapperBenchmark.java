@@ -0,0 +1,84 @@
+package tech.grove.birch.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.serialization.FluentMapper;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.creators.MapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FluentMapperBenchmark {
+
+    private ObjectMapper mapper;
+    private TestRecord   record;
+    private String       json;
+    private JsonNode     node;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        mapper = MapperBuilder.mapperFor(MapperMode.JSON).build();
+        record = new TestRecord(1, "benchmark");
+        json   = mapper.writeValueAsString(record);
+        node   = mapper.readTree(json);
+    }
+
+    @Benchmark
+    public TestRecord nativeRoundTrip() throws JsonProcessingException {
+        return mapper.readValue(mapper.writeValueAsString(record), TestRecord.class);
+    }
+
+    @Benchmark
+    public TestRecord fluentRoundTrip() {
+        return FluentMapper.instance(record).asJson().asType(TestRecord.class).get();
+    }
+
+    @Benchmark
+    public String nativeWrite() throws JsonProcessingException {
+        return mapper.writeValueAsString(record);
+    }
+
+    @Benchmark
+    public String fluentWrite() {
+        return FluentMapper.instance(record).asJson().get();
+    }
+
+    @Benchmark
+    public TestRecord nativeRead() throws JsonProcessingException {
+        return mapper.readValue(json, TestRecord.class);
+    }
+
+    @Benchmark
+    public TestRecord fluentRead() {
+        return FluentMapper.json(json).asType(TestRecord.class).get();
+    }
+
+    @Benchmark
+    public TestRecord nativeNodeToType() throws JsonProcessingException {
+        return mapper.treeToValue(node, TestRecord.class);
+    }
+
+    @Benchmark
+    public TestRecord fluentNodeToType() {
+        return FluentMapper.node(node).asType(TestRecord.class).get();
+    }
+
+    @Benchmark
+    public TestRecord nativeJsonViaNode() throws JsonProcessingException {
+        return mapper.treeToValue(mapper.readTree(json), TestRecord.class);
+    }
+
+    @Benchmark
+    public TestRecord fluentJsonViaNode() {
+        return FluentMapper.json(json).asNode(ObjectNode.class).asType(TestRecord.class).get();
+    }
+}
@@ -0,0 +1,50 @@
+package tech.grove.birch.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.serialization.FluentMapper;
+import tech.grove.birch.serialization.instrumentation.ConversionStats;
+import tech.grove.birch.serialization.instrumentation.Instrumentation;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+    @Param({"false", "true"})
+    private boolean instrumented;
+
+    private ConversionStats stats;
+    private TestRecord      record;
+    private String          json;
+
+    @Setup
+    public void setup() {
+        stats  = new ConversionStats();
+        record = new TestRecord(1, "benchmark");
+        json   = FluentMapper.instance(record).asJson().get();
+
+        if (instrumented) {
+            Instrumentation.register(stats);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Instrumentation.unregister(stats);
+    }
+
+    @Benchmark
+    public String write() {
+        return FluentMapper.instance(record).asJson().get();
+    }
+
+    @Benchmark
+    public TestRecord read() {
+        return FluentMapper.json(json).asType(TestRecord.class).get();
+    }
+}
@@ -0,0 +1,90 @@
+package tech.grove.birch.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.patterns.lazy.AsyncLazy;
+import tech.grove.birch.patterns.lazy.AtomicLazy;
+import tech.grove.birch.patterns.lazy.ExpiringLazy;
+import tech.grove.birch.patterns.lazy.Lazy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyBenchmark {
+
+    private Lazy<Object>         lazy;
+    private AtomicLazy<Object>   atomic;
+    private AsyncLazy<Object>    async;
+    private ExpiringLazy<Object> expiring;
+
+    @Setup
+    public void setup() {
+        lazy     = new Lazy<>(Object::new);
+        atomic   = new AtomicLazy<>(Object::new);
+        async    = new AsyncLazy<>(Object::new);
+        expiring = new ExpiringLazy<>(Object::new, Duration.ofMillis(1));
+
+        lazy.get();
+        atomic.get();
+        async.get().join();
+        expiring.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object uncontended() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object contended() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object contendedWithReset() {
+        var value = lazy.get();
+        lazy.reset();
+        return value;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object atomicUncontended() {
+        return atomic.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object atomicContended() {
+        return atomic.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object atomicContendedWithReset() {
+        var value = atomic.get();
+        atomic.reset();
+        return value;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object asyncContended() {
+        return async.get().join();
+    }
+
+    //-- The 1ms ttl keeps a background refresh running for most of the measurement; readers must not stall on it
+    @Benchmark
+    @Threads(8)
+    public Object expiringContended() {
+        return expiring.get();
+    }
+}
@@ -0,0 +1,115 @@
+package tech.grove.birch.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.creators.MapperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OptimizedMapperBenchmark {
+
+    private static final TypeReference<List<TestRecord>> RECORDS = new TypeReference<>() {
+    };
+    private static final TypeReference<List<TestBean>>   BEANS   = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "YAML"})
+    private MapperMode mode;
+
+    private ObjectMapper     plain;
+    private ObjectMapper     optimized;
+    private TestRecord       record;
+    private List<TestRecord> records;
+    private String           json;
+    private String           batch;
+    private List<TestBean>   beans;
+    private String           beanBatch;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        plain     = MapperBuilder.mapperFor(mode).build();
+        optimized = MapperBuilder.mapperFor(mode).optimized().build();
+        record    = new TestRecord(1, "benchmark", List.of(UUID.randomUUID(), UUID.randomUUID()));
+        records   = IntStream.range(0, 100)
+                .mapToObj(i -> new TestRecord(i, "record-" + i, List.of(UUID.randomUUID())))
+                .toList();
+        json      = plain.writeValueAsString(record);
+        batch     = plain.writeValueAsString(records);
+        beans     = IntStream.range(0, 100)
+                .mapToObj(TestBean::sample)
+                .toList();
+        beanBatch = plain.writeValueAsString(beans);
+    }
+
+    @Benchmark
+    public String plainWrite() throws JsonProcessingException {
+        return plain.writeValueAsString(record);
+    }
+
+    @Benchmark
+    public String optimizedWrite() throws JsonProcessingException {
+        return optimized.writeValueAsString(record);
+    }
+
+    @Benchmark
+    public TestRecord plainRead() throws JsonProcessingException {
+        return plain.readValue(json, TestRecord.class);
+    }
+
+    @Benchmark
+    public TestRecord optimizedRead() throws JsonProcessingException {
+        return optimized.readValue(json, TestRecord.class);
+    }
+
+    @Benchmark
+    public String plainWriteBatch() throws JsonProcessingException {
+        return plain.writeValueAsString(records);
+    }
+
+    @Benchmark
+    public String optimizedWriteBatch() throws JsonProcessingException {
+        return optimized.writeValueAsString(records);
+    }
+
+    @Benchmark
+    public List<TestRecord> plainReadBatch() throws JsonProcessingException {
+        return plain.readValue(batch, RECORDS);
+    }
+
+    @Benchmark
+    public List<TestRecord> optimizedReadBatch() throws JsonProcessingException {
+        return optimized.readValue(batch, RECORDS);
+    }
+
+    @Benchmark
+    public String plainWriteBeans() throws JsonProcessingException {
+        return plain.writeValueAsString(beans);
+    }
+
+    @Benchmark
+    public String optimizedWriteBeans() throws JsonProcessingException {
+        return optimized.writeValueAsString(beans);
+    }
+
+    @Benchmark
+    public List<TestBean> plainReadBeans() throws JsonProcessingException {
+        return plain.readValue(beanBatch, BEANS);
+    }
+
+    @Benchmark
+    public List<TestBean> optimizedReadBeans() throws JsonProcessingException {
+        return optimized.readValue(beanBatch, BEANS);
+    }
+}
@@ -0,0 +1,60 @@
+package tech.grove.birch.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.serialization.FluentMapper;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.creators.MapperBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointerBenchmark {
+
+    private ObjectMapper          mapper;
+    private String                json;
+    private Map<String, Class<?>> paths;
+
+    //-- Roughly 200 KB: the fields of interest sit in front of a large array of records
+    @Setup
+    public void setup() throws JsonProcessingException {
+        var document = new LinkedHashMap<String, Object>();
+        document.put("meta", Map.of("id", 42, "owner", "benchmark"));
+        document.put("records", IntStream.range(0, 2_000).mapToObj(i -> new TestRecord(i, "record-" + i, List.of())).toList());
+        document.put("trailer", Map.of("count", 2_000));
+
+        mapper = MapperBuilder.mapperFor(MapperMode.JSON).build();
+        json   = mapper.writeValueAsString(document);
+        paths  = Map.of("/meta/id", Integer.class, "/meta/owner", String.class);
+    }
+
+    @Benchmark
+    public int treeAt() throws JsonProcessingException {
+        return mapper.readTree(json).at("/meta/id").asInt();
+    }
+
+    @Benchmark
+    public int pointerAt() {
+        return FluentMapper.json(json).at("/meta/id", Integer.class).get();
+    }
+
+    @Benchmark
+    public int pointerAtEnd() {
+        return FluentMapper.json(json).at("/trailer/count", Integer.class).get();
+    }
+
+    @Benchmark
+    public Map<String, Object> extract() {
+        return FluentMapper.json(json).extract(paths).get();
+    }
+}
@@ -0,0 +1,113 @@
+package tech.grove.birch.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.reflection.InstanceFactory;
+import tech.grove.birch.reflection.Property;
+import tech.grove.birch.reflection.Reflector;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReflectorBenchmark {
+
+    private Method   getter;
+    private Method   indexGetter;
+    private Property index;
+    private Property name;
+
+    private InstanceFactory<TestRecord> factory;
+
+    private final TestRecord record = new TestRecord(42, "benchmark");
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        getter      = Bean.class.getMethod("getValue");
+        indexGetter = TestRecord.class.getMethod("index");
+        index       = Reflector.type(TestRecord.class).property("index");
+        name        = Reflector.type(TestRecord.class).property("name");
+        factory     = Reflector.type(TestRecord.class).factory(int.class, String.class, List.class);
+    }
+
+    @Benchmark
+    public boolean isEffectivelyPrimitive() {
+        return Reflector.type(TestRecord.class).isEffectivelyPrimitive();
+    }
+
+    @Benchmark
+    public boolean isMap() {
+        return Reflector.type(HashMap.class).isMap();
+    }
+
+    @Benchmark
+    public boolean isIterable() {
+        return Reflector.type(TestRecord.class).isIterable();
+    }
+
+    @Benchmark
+    public JsonProperty methodAnnotation() {
+        return Reflector.method(getter).getAnnotation(JsonProperty.class);
+    }
+
+    @Benchmark
+    public String jsonName() {
+        return Reflector.method(getter).jsonName();
+    }
+
+    @Benchmark
+    public int directRead() {
+        return record.index();
+    }
+
+    @Benchmark
+    public Object reflectiveRead() throws ReflectiveOperationException {
+        return indexGetter.invoke(record);
+    }
+
+    @Benchmark
+    public int compiledIntRead() {
+        return index.getInt(record);
+    }
+
+    @Benchmark
+    public Object compiledRead() {
+        return name.get(record);
+    }
+
+    @Benchmark
+    public TestRecord directConstruction() {
+        return new TestRecord(record.index(), record.name(), record.uuids());
+    }
+
+    @Benchmark
+    public TestRecord factoryConstruction() {
+        return factory.newInstance(record.index(), record.name(), record.uuids());
+    }
+
+    @Benchmark
+    public Object newInstance() {
+        return Reflector.type(TestRecord.class).newInstance(record.index(), record.name(), record.uuids());
+    }
+
+    public interface Named {
+
+        @JsonProperty("value")
+        String getValue();
+    }
+
+    public static class Bean implements Named {
+
+        @Override
+        public String getValue() {
+            return "value";
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package tech.grove.birch.benchmarks;
+
+import java.util.UUID;
+
+//-- Bean-style DTO with enough properties for per-property access to dominate (de)serialization cost
+public class TestBean {
+
+    private int     id;
+    private long    version;
+    private double  price;
+    private double  discount;
+    private boolean active;
+    private boolean archived;
+    private String  name;
+    private String  description;
+    private String  category;
+    private String  owner;
+    private String  region;
+    private String  currency;
+    private int     quantity;
+    private int     priority;
+    private long    created;
+    private long    updated;
+    private UUID    reference;
+
+    public static TestBean sample(int index) {
+        var bean = new TestBean();
+
+        bean.setId(index);
+        bean.setVersion(index * 7L);
+        bean.setPrice(index * 1.25);
+        bean.setDiscount(0.1);
+        bean.setActive(true);
+        bean.setArchived(false);
+        bean.setName("bean-" + index);
+        bean.setDescription("description of bean " + index);
+        bean.setCategory("category-" + (index % 5));
+        bean.setOwner("owner-" + (index % 3));
+        bean.setRegion("eu-west");
+        bean.setCurrency("EUR");
+        bean.setQuantity(index % 100);
+        bean.setPriority(index % 4);
+        bean.setCreated(1_700_000_000_000L + index);
+        bean.setUpdated(1_700_000_100_000L + index);
+        bean.setReference(UUID.randomUUID());
+
+        return bean;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
+
+    public double getDiscount() {
+        return discount;
+    }
+
+    public void setDiscount(double discount) {
+        this.discount = discount;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public UUID getReference() {
+        return reference;
+    }
+
+    public void setReference(UUID reference) {
+        this.reference = reference;
+    }
+}
@@ -0,0 +1,12 @@
+package tech.grove.birch.benchmarks;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+public record TestRecord(int index, String name, List<UUID> uuids) {
+
+    public TestRecord(int index, String name) {
+        this(index, name, IntStream.range(0, 10).mapToObj(x -> UUID.randomUUID()).toList());
+    }
+}
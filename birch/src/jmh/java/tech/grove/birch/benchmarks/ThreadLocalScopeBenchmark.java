@@ -0,0 +1,44 @@
+package tech.grove.birch.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.grove.birch.threading.ThreadLocalScope;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadLocalScopeBenchmark {
+
+    private final Object                   value = new Object();
+    private final ThreadLocal<Object>      raw   = new ThreadLocal<>();
+    private final ThreadLocalScope<Object> scope = new ThreadLocalScope<>();
+    private final ThreadLocalScope<Object> lazy  = new ThreadLocalScope<>(Object::new);
+
+    @Benchmark
+    public Object rawThreadLocal() {
+        try {
+            raw.set(value);
+            return raw.get();
+        } finally {
+            raw.remove();
+        }
+    }
+
+    @Benchmark
+    public Object scope() {
+        try (scope) {
+            return scope.initialize(value).get();
+        }
+    }
+
+    @Benchmark
+    public Object scopeWithDefaultFactory() {
+        try (lazy) {
+            return lazy.get();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package tech.grove.birch.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+//-- Marks a record for CodecProcessor: a reflection-free serializer/deserializer pair is generated next to it at
+//-- compile time and picked up by every mapper built through MapperBuilder. The processor is not in this jar: add
+//-- tech.grove.birch:birch-processor to the compiler's annotationProcessorPaths
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface GenerateCodec {
+}
@@ -0,0 +1,13 @@
+package tech.grove.birch.codegen;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+public interface GeneratedCodec<T> {
+
+    Class<T> type();
+
+    JsonSerializer<T> serializer();
+
+    JsonDeserializer<T> deserializer();
+}
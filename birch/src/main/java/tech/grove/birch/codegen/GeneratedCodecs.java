@@ -0,0 +1,79 @@
+package tech.grove.birch.codegen;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+//-- Codecs listed by CodecProcessor in META-INF/services are loaded once per class loader; each mapper gets its own
+//-- serializer and deserializer instances since those resolve names and delegates against the mapper that uses them.
+//-- Birch's own loader is always consulted, so codecs it can see are found even when the given loader is unrelated;
+//-- the given loader (the thread context loader by default) adds codecs that live in child loaders, e.g. webapps
+public final class GeneratedCodecs {
+
+    private static final String MODULE_NAME = "birch-generated-codecs";
+
+    //-- Weak keys so undeployed loaders can go; soft values since loaded codecs pin their own loader
+    private static final LoadingCache<ClassLoader, List<GeneratedCodec<?>>> LOADED = CacheBuilder.newBuilder()
+            .weakKeys()
+            .softValues()
+            .build(CacheLoader.from(GeneratedCodecs::load));
+
+    private GeneratedCodecs() {
+    }
+
+    public static List<GeneratedCodec<?>> codecs() {
+        return codecs(Thread.currentThread().getContextClassLoader());
+    }
+
+    //-- A null loader means birch's own loader only
+    public static List<GeneratedCodec<?>> codecs(ClassLoader loader) {
+        var own = LOADED.getUnchecked(GeneratedCodecs.class.getClassLoader());
+
+        if (loader == null || loader == GeneratedCodecs.class.getClassLoader()) {
+            return own;
+        }
+
+        var result = new LinkedHashMap<Class<?>, GeneratedCodec<?>>();
+
+        own.forEach(codec -> result.put(codec.getClass(), codec));
+        LOADED.getUnchecked(loader).forEach(codec -> result.putIfAbsent(codec.getClass(), codec));
+
+        return List.copyOf(result.values());
+    }
+
+    public static boolean isEmpty() {
+        return codecs().isEmpty();
+    }
+
+    public static Module module() {
+        return module(Thread.currentThread().getContextClassLoader());
+    }
+
+    public static Module module(ClassLoader loader) {
+        var module = new SimpleModule(MODULE_NAME);
+
+        codecs(loader).forEach(codec -> register(module, codec));
+
+        return module;
+    }
+
+    private static <T> void register(SimpleModule module, GeneratedCodec<T> codec) {
+        module.addSerializer(codec.type(), codec.serializer());
+        module.addDeserializer(codec.type(), codec.deserializer());
+    }
+
+    private static List<GeneratedCodec<?>> load(ClassLoader loader) {
+        return ServiceLoader.<GeneratedCodec<?>>load(cast(GeneratedCodec.class), loader)
+                .stream()
+                .<GeneratedCodec<?>>map(ServiceLoader.Provider::get)
+                .toList();
+    }
+}
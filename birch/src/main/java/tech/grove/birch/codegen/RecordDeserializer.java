@@ -0,0 +1,127 @@
+package tech.grove.birch.codegen;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.IgnoredPropertyException;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+//-- Base of generated deserializers: components are collected by index and handed to the canonical constructor.
+//-- Delegates for non-trivial component types are looked up once, in resolve(). @JsonIgnore'd components are known
+//-- properties: their values are skipped, under both the declared and the external name, as Jackson does.
+//-- Resolved state is transient: a deserialized copy resolves again on first use
+public abstract class RecordDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final     String[]              names;
+    private final     boolean[]             explicit;
+    private final     boolean[]             ignored;
+    private transient Map<String, Integer>  index;
+    private transient Set<String>           ignorable;
+    private transient JsonDeserializer<?>[] delegates;
+
+    protected RecordDeserializer(Class<T> type, String[] names, boolean[] explicit, boolean[] ignored) {
+        super(type);
+        this.names    = names;
+        this.explicit = explicit;
+        this.ignored  = ignored;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        var config   = ctxt.getConfig();
+        var strategy = config.getPropertyNamingStrategy();
+        var types    = types(ctxt.getTypeFactory());
+        var lookup   = new HashMap<String, Integer>(names.length * 2);
+        var skipped  = new HashSet<String>();
+        var found    = new JsonDeserializer<?>[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            var name = (strategy == null || explicit[i])
+                       ? names[i]
+                       : strategy.nameForSetterMethod(config, null, names[i]);
+
+            if (ignored[i]) {
+                skipped.add(names[i]);
+                skipped.add(name);
+            } else {
+                lookup.put(name, i);
+                found[i] = ctxt.findRootValueDeserializer(types[i]);
+            }
+        }
+
+        this.delegates = found;
+        this.ignorable = skipped;
+        this.index     = lookup;
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (index == null) {
+            resolve(ctxt);
+        }
+
+        var token = p.currentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return cast(ctxt.handleUnexpectedToken(handledType(), p));
+        }
+
+        var values = new Object[names.length];
+
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            var name     = p.currentName();
+            var position = index.get(name);
+
+            p.nextToken();
+
+            if (position == null && ignorable.contains(name)) {
+                handleIgnoredProperty(p, ctxt, name);
+            } else if (position == null) {
+                handleUnknownProperty(p, ctxt, handledType(), name);
+            } else if (p.currentToken() == JsonToken.VALUE_NULL) {
+                values[position] = delegates[position].getNullValue(ctxt);
+            } else {
+                values[position] = read(position, p, ctxt);
+            }
+        }
+
+        return create(values);
+    }
+
+    private void handleIgnoredProperty(JsonParser p, DeserializationContext ctxt, String name) throws IOException {
+        if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES)) {
+            throw IgnoredPropertyException.from(p, handledType(), name, List.<Object>copyOf(index.keySet()));
+        }
+
+        p.skipChildren();
+    }
+
+    protected final Object readDelegate(int position, JsonParser p, DeserializationContext ctxt) throws IOException {
+        return delegates[position].deserialize(p, ctxt);
+    }
+
+    protected abstract JavaType[] types(TypeFactory factory);
+
+    protected abstract Object read(int position, JsonParser p, DeserializationContext ctxt) throws IOException;
+
+    protected abstract T create(Object[] values);
+}
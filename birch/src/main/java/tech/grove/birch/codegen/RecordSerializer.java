@@ -0,0 +1,134 @@
+package tech.grove.birch.codegen;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+//-- Base of generated serializers: property names go through the mapper's naming strategy once, in resolve(),
+//-- unless they were fixed by @JsonProperty. Generated code only knows how to drop nulls, so when a component's
+//-- default inclusion asks for more (NON_EMPTY, NON_DEFAULT, CUSTOM, NON_ABSENT on a reference type) the whole
+//-- record is handed to the reflective bean serializer instead
+public abstract class RecordSerializer<T> extends StdSerializer<T> implements ResolvableSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final     String[]             names;
+    private final     Class<?>[]           classes;
+    private final     boolean[]            explicit;
+    private transient SerializableString[] resolved;
+    private transient boolean[]            skipNulls;
+    private transient JsonSerializer<T>    fallback;
+
+    protected RecordSerializer(Class<T> type, String[] names, Class<?>[] classes, boolean[] explicit) {
+        super(type);
+        this.names    = names;
+        this.classes  = classes;
+        this.explicit = explicit;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) {
+        var config   = provider.getConfig();
+        var strategy = config.getPropertyNamingStrategy();
+        var result   = new SerializableString[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] != null) {
+                result[i] = new SerializedString((strategy == null || explicit[i])
+                                                 ? names[i]
+                                                 : strategy.nameForGetterMethod(config, null, names[i]));
+            }
+        }
+
+        var skipping = new boolean[names.length];
+        var reflect  = false;
+
+        for (int i = 0; i < names.length && !reflect; i++) {
+            var inclusion = config.getDefaultInclusion(handledType(), classes[i]).getValueInclusion();
+
+            switch (inclusion) {
+                case ALWAYS, USE_DEFAULTS -> skipping[i] = false;
+                case NON_NULL -> skipping[i] = true;
+                case NON_ABSENT -> {
+                    skipping[i] = true;
+                    reflect     = provider.constructType(classes[i]).isReferenceType();
+                }
+                default -> reflect = true;
+            }
+        }
+
+        this.fallback  = reflect ? fallback(provider) : null;
+        this.skipNulls = skipping;
+        this.resolved  = result;
+    }
+
+    private JsonSerializer<T> fallback(SerializerProvider provider) {
+        try {
+            var serializer = BeanSerializerFactory.instance.createSerializer(provider, provider.constructType(handledType()));
+
+            if (serializer instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+
+            return cast(serializer);
+        } catch (JsonMappingException e) {
+            throw new RuntimeException(String.format("Cannot create fallback serializer of %s", handledType().getName()), e);
+        }
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (resolved == null) {
+            resolve(provider);
+        }
+
+        if (fallback != null) {
+            fallback.serialize(value, gen, provider);
+            return;
+        }
+
+        gen.writeStartObject(value);
+        writeFields(value, gen, provider, resolved, skipNulls);
+        gen.writeEndObject();
+    }
+
+    protected abstract void writeFields(T value,
+                                        JsonGenerator gen,
+                                        SerializerProvider provider,
+                                        SerializableString[] names,
+                                        boolean[] skipNulls) throws IOException;
+
+    protected static void writeString(JsonGenerator gen, SerializableString name, String value, boolean skipNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        } else if (!skipNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+
+    protected static void writeDelegate(JsonGenerator gen,
+                                      SerializerProvider provider,
+                                      SerializableString name,
+                                      Object value,
+                                      boolean skipNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            provider.defaultSerializeValue(value, gen);
+        } else if (!skipNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package tech.grove.birch.patterns.lazy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+//-- All callers share one future; the factory runs once on the executor and nobody blocks unless they join.
+//-- A failed load is dropped so that the next get() retries instead of caching the failure forever
+public class AsyncLazy<T> implements Supplier<CompletableFuture<T>> {
+
+    private static final VarHandle FUTURE;
+
+    static {
+        try {
+            FUTURE = MethodHandles.lookup().findVarHandle(AsyncLazy.class, "future", CompletableFuture.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private volatile CompletableFuture<T> future;
+    private final    Supplier<T>          factory;
+    private final    Executor             executor;
+
+    public AsyncLazy(Supplier<T> factory) {
+        this(factory, ForkJoinPool.commonPool());
+    }
+
+    public AsyncLazy(Supplier<T> factory, Executor executor) {
+
+        Optional.ofNullable(factory).orElseThrow(() -> new IllegalArgumentException("factory"));
+        Optional.ofNullable(executor).orElseThrow(() -> new IllegalArgumentException("executor"));
+
+        this.factory  = factory;
+        this.executor = executor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<T> get() {
+        var current = (CompletableFuture<T>) FUTURE.getAcquire(this);
+
+        if (current != null) {
+            return current;
+        }
+
+        var created = new CompletableFuture<T>();
+        var witness = (CompletableFuture<T>) FUTURE.compareAndExchange(this, null, created);
+
+        if (witness != null) {
+            return witness;
+        }
+
+        //-- A rejected submission must not leave a future installed that nothing will ever complete
+        try {
+            CompletableFuture.supplyAsync(factory, executor).whenComplete((value, error) -> {
+                if (error == null && value == null) {
+                    error = new RuntimeException("Invalid factory instance. Factory should never produce NULL!");
+                }
+
+                if (error != null) {
+                    FUTURE.compareAndSet(this, created, null);
+                    created.completeExceptionally(error);
+                } else {
+                    created.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            FUTURE.compareAndSet(this, created, null);
+            created.completeExceptionally(e);
+        }
+
+        return created;
+    }
+
+    public boolean isInitialized() {
+        var current = (CompletableFuture<?>) FUTURE.getAcquire(this);
+
+        return (current != null) && current.isDone() && !current.isCompletedExceptionally();
+    }
+
+    //-- Callers already holding the previous future keep it; only subsequent get() calls start a new load
+    public void reset() {
+        FUTURE.setRelease(this, null);
+    }
+}
@@ -0,0 +1,62 @@
+package tech.grove.birch.patterns.lazy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+//-- Monitor-free lazy: racing threads may each run the factory, the first published instance wins and the
+//-- others are discarded, so the factory must be side-effect free (cheap duplicates, no resources to leak)
+public class AtomicLazy<T> implements Supplier<T> {
+
+    private static final VarHandle INSTANCE;
+
+    static {
+        try {
+            INSTANCE = MethodHandles.lookup().findVarHandle(AtomicLazy.class, "instance", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private volatile Object      instance;
+    private final    Supplier<T> factory;
+
+    public AtomicLazy(Supplier<T> factory) {
+
+        Optional.ofNullable(factory).orElseThrow(() -> new IllegalArgumentException("factory"));
+
+        this.factory = factory;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        var current = INSTANCE.getAcquire(this);
+
+        if (current == null) {
+            var created = Optional.ofNullable(factory.get())
+                    .orElseThrow(() -> new RuntimeException("Invalid factory instance. Factory should never produce NULL!"));
+
+            var witness = INSTANCE.compareAndExchangeRelease(this, null, created);
+            current = (witness == null) ? created : witness;
+        }
+
+        return (T) current;
+    }
+
+    public boolean isInitialized() {
+        return (INSTANCE.getAcquire(this) != null);
+    }
+
+    public void reset() {
+        INSTANCE.setRelease(this, null);
+    }
+
+    //-- Drops the instance only if it is still the one the caller saw, so a stale failure report
+    //-- cannot throw away an instance that another thread has already replaced
+    public boolean reset(T expected) {
+        return (expected != null) && INSTANCE.compareAndSet(this, expected, null);
+    }
+}
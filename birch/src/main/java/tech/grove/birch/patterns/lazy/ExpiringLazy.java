@@ -0,0 +1,136 @@
+package tech.grove.birch.patterns.lazy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+//-- Only the very first get() (or the first after reset) waits for the factory. Once the instance expires,
+//-- readers keep getting the stale one while a single background refresh replaces it; a failed refresh keeps
+//-- the stale instance and is retried by the next reader
+public class ExpiringLazy<T> implements Supplier<T> {
+
+    private static final VarHandle LOADING;
+
+    static {
+        try {
+            LOADING = MethodHandles.lookup().findVarHandle(ExpiringLazy.class, "loading", CompletableFuture.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private record Entry<T>(T instance, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return (now - expiresAt >= 0);
+        }
+    }
+
+    private volatile Entry<T>                    entry;
+    @SuppressWarnings("unused")
+    private volatile CompletableFuture<Entry<T>> loading;
+    private final    Supplier<T>                 factory;
+    private final    long                        ttl;
+    private final    Executor                    executor;
+
+    public ExpiringLazy(Supplier<T> factory, Duration ttl) {
+        this(factory, ttl, ForkJoinPool.commonPool());
+    }
+
+    public ExpiringLazy(Supplier<T> factory, Duration ttl, Executor executor) {
+
+        Optional.ofNullable(factory).orElseThrow(() -> new IllegalArgumentException("factory"));
+        Optional.ofNullable(executor).orElseThrow(() -> new IllegalArgumentException("executor"));
+
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl");
+        }
+
+        this.factory  = factory;
+        this.ttl      = ttl.toNanos();
+        this.executor = executor;
+    }
+
+    @Override
+    public T get() {
+        var current = entry;
+
+        if (current == null) {
+            return await(load()).instance();
+        }
+
+        if (current.isExpired(System.nanoTime())) {
+            load();
+        }
+
+        return current.instance();
+    }
+
+    public boolean isInitialized() {
+        return (entry != null);
+    }
+
+    public boolean isExpired() {
+        var current = entry;
+
+        return (current == null) || current.isExpired(System.nanoTime());
+    }
+
+    //-- Forces the next reader to wait for a fresh instance; a refresh already in flight may still install its result
+    public void reset() {
+        entry = null;
+    }
+
+    //-- Starts a load unless one is already running and returns the future of whichever load is current
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Entry<T>> load() {
+        var created = new CompletableFuture<Entry<T>>();
+        var witness = (CompletableFuture<Entry<T>>) LOADING.compareAndExchange(this, null, created);
+
+        if (witness != null) {
+            return witness;
+        }
+
+        //-- A rejected submission must not leave a future installed that nothing will ever complete
+        try {
+            CompletableFuture.supplyAsync(factory, executor).whenComplete((instance, error) -> {
+                if (error == null && instance == null) {
+                    error = new RuntimeException("Invalid factory instance. Factory should never produce NULL!");
+                }
+
+                if (error == null) {
+                    var loaded = new Entry<>(instance, System.nanoTime() + ttl);
+                    entry = loaded;
+                    LOADING.setRelease(this, null);
+                    created.complete(loaded);
+                } else {
+                    LOADING.setRelease(this, null);
+                    created.completeExceptionally(error);
+                }
+            });
+        } catch (RuntimeException e) {
+            LOADING.compareAndSet(this, created, null);
+            created.completeExceptionally(e);
+        }
+
+        return created;
+    }
+
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package tech.grove.birch.patterns.lazy;
 
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 public class Lazy<T> implements Supplier<T> {
 
-    private volatile T           instance;
-    private final    Supplier<T> factory;
-    private final    Object      syncRoot;
+    private volatile T             instance;
+    private final    Supplier<T>   factory;
+    private final    ReentrantLock syncRoot;
 
     public Lazy(Supplier<T> factory) {
 
@@ -15,7 +16,7 @@ public class Lazy<T> implements Supplier<T> {
 
         this.factory  = factory;
         this.instance = null;
-        this.syncRoot = new Object();
+        this.syncRoot = new ReentrantLock();
     }
 
     //<editor-fold desc="Unit test seams">
@@ -28,25 +29,33 @@ public class Lazy<T> implements Supplier<T> {
         return factory;
     }
 
-    Object getSyncRoot() {
+    ReentrantLock getSyncRoot() {
         return syncRoot;
     }
 
     //</editor-fold>
 
+    //-- Reads go through a local so that a concurrent reset() can never make get() return null;
+    //-- the lock is a ReentrantLock rather than a monitor so that virtual threads waiting on it are not pinned
     @Override
     public T get() {
+        var current = instance;
 
-        if (instance == null) {
-            synchronized (syncRoot) {
-                if (instance == null) {
-                    Optional.ofNullable(instance = factory.get())
+        if (current == null) {
+            syncRoot.lock();
+            try {
+                current = instance;
+
+                if (current == null) {
+                    instance = current = Optional.ofNullable(factory.get())
                             .orElseThrow(() -> new RuntimeException("Invalid factory instance. Factory should never produce NULL!"));
                 }
+            } finally {
+                syncRoot.unlock();
             }
         }
 
-        return instance;
+        return current;
     }
 
     public boolean isInitialized() {
@@ -0,0 +1,115 @@
+package tech.grove.birch.reflection;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+//-- Constructors are matched the way javac picks overloads: strict assignability first, then with boxing, most specific wins.
+//-- A null argument type stands for a null argument and matches any reference parameter; when no candidate is most
+//-- specific the call is ambiguous and fails, as it would in javac, rather than depending on declaration order
+final class ConstructorResolver {
+
+    private final Class<?>                                          type;
+    private final ConcurrentMap<List<Class<?>>, InstanceFactory<?>> factories = new ConcurrentHashMap<>();
+
+    ConstructorResolver(Class<?> type) {
+        this.type = type;
+    }
+
+    InstanceFactory<?> factory(Class<?>... argTypes) {
+        var key = Arrays.asList((argTypes == null) ? new Class<?>[0] : argTypes.clone());
+
+        return factories.computeIfAbsent(key, x -> compile(resolve(x.toArray(Class<?>[]::new))));
+    }
+
+    private Constructor<?> resolve(Class<?>[] argTypes) {
+        return resolve(argTypes, false)
+                .or(() -> resolve(argTypes, true))
+                .orElseThrow(() -> new RuntimeException(String.format("No constructor of %s accepts %s", type.getName(), Arrays.toString(argTypes))));
+    }
+
+    private Optional<Constructor<?>> resolve(Class<?>[] argTypes, boolean autoboxing) {
+        var candidates = Arrays.stream(type.getDeclaredConstructors())
+                .filter(x -> !x.isSynthetic() && ClassUtils.isAssignable(argTypes, x.getParameterTypes(), autoboxing))
+                .toList();
+
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var mostSpecific = candidates.stream()
+                .filter(x -> candidates.stream().allMatch(y -> ClassUtils.isAssignable(x.getParameterTypes(), y.getParameterTypes(), autoboxing)))
+                .findFirst();
+
+        if (mostSpecific.isEmpty()) {
+            throw new RuntimeException(String.format("Ambiguous constructor of %s for %s, candidates: %s", type.getName(), Arrays.toString(argTypes), candidates));
+        }
+
+        return mostSpecific;
+    }
+
+    private InstanceFactory<?> compile(Constructor<?> constructor) {
+        var lookup = Lambdas.lookupIn(type);
+        var handle = unreflect(lookup, constructor);
+
+        if (constructor.getParameterCount() == 0) {
+            var supplier = Lambdas.implement(lookup, Supplier.class, "get", MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+
+            if (supplier.isPresent()) {
+                var instance = supplier.get();
+
+                return args -> {
+                    checkArity(args, 0);
+                    return instance.get();
+                };
+            }
+        }
+
+        var arity   = constructor.getParameterCount();
+        var spreads = handle.asSpreader(Object[].class, arity)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return args -> {
+            checkArity(args, arity);
+
+            try {
+                return spreads.invokeExact((args == null) ? new Object[0] : args);
+            } catch (Throwable e) {
+                throw Lambdas.rethrow(e);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Constructor<?> constructor) {
+        try {
+            return lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            if (constructor.trySetAccessible()) {
+                try {
+                    return MethodHandles.lookup().unreflectConstructor(constructor);
+                } catch (IllegalAccessException ignored) {
+                    //-- Reported below with the original cause
+                }
+            }
+
+            throw new RuntimeException(String.format("Inaccessible constructor: %s", constructor), e);
+        }
+    }
+
+    private static void checkArity(Object[] args, int arity) {
+        var count = (args == null) ? 0 : args.length;
+
+        if (count != arity) {
+            throw new IllegalArgumentException(String.format("Expected %d arguments but got %d", arity, count));
+        }
+    }
+}
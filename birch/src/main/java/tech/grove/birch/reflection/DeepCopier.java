@@ -0,0 +1,644 @@
+package tech.grove.birch.reflection;
+
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+//-- Deep copies built from a per-class plan computed once: effectively primitive and other immutable values are
+//-- shared, records are rebuilt through their canonical constructor, beans through their no-arg constructor and
+//-- properties (classes holding state outside of them are refused), arrays and collections are presized and keep
+//-- their concrete (or immutable) kind.
+//-- An immutable collection or a record whose elements all come back unchanged is deeply immutable and shared as well.
+//-- copy() treats the input as a tree; copyGraph() keeps shared references shared and reproduces cycles, except
+//-- cycles running through a record, which cannot be built before its components
+public final class DeepCopier {
+
+    private static final Object   IN_PROGRESS = new Object();
+    private static final CopyPlan SHARED      = (value, copies) -> value;
+
+    private static final Set<Class<?>> IMMUTABLES = Set.of(BigInteger.class,
+                                                           URI.class,
+                                                           URL.class,
+                                                           Pattern.class,
+                                                           Locale.class,
+                                                           Currency.class,
+                                                           Class.class,
+                                                           OptionalInt.class,
+                                                           OptionalLong.class,
+                                                           OptionalDouble.class,
+                                                           Object.class);
+
+    private static final Set<Class<?>> IMMUTABLE_HIERARCHIES = Set.of(TemporalAccessor.class,
+                                                                      ZoneId.class,
+                                                                      Path.class,
+                                                                      Charset.class,
+                                                                      InetAddress.class,
+                                                                      Enum.class);
+
+    private static final ClassValue<CopyPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return plan(type);
+        }
+    };
+
+    private DeepCopier() {
+    }
+
+    public static <T> T copy(T value) {
+        return cast(copy(value, null));
+    }
+
+    public static <T> T copyGraph(T value) {
+        return cast(copy(value, new IdentityHashMap<>()));
+    }
+
+    public static boolean isShared(Class<?> type) {
+        return Reflector.type(type).isEffectivelyPrimitive()
+               || IMMUTABLES.contains(type)
+               || type.isHidden()
+               || IMMUTABLE_HIERARCHIES.stream().anyMatch(x -> x.isAssignableFrom(type));
+    }
+
+    private static Object copy(Object value, Map<Object, Object> copies) {
+        return (value == null) ? null : PLANS.get(value.getClass()).copy(value, copies);
+    }
+
+    private static CopyPlan plan(Class<?> type) {
+        if (isShared(type)) {
+            return SHARED;
+        }
+
+        if (type.isArray()) {
+            return arrayPlan(type.getComponentType());
+        }
+
+        if (type == Optional.class) {
+            return (value, copies) -> ((Optional<?>) value).map(x -> copy(x, copies));
+        }
+
+        if (Collection.class.isAssignableFrom(type)) {
+            return collectionPlan(type);
+        }
+
+        if (Map.class.isAssignableFrom(type)) {
+            return mapPlan(type);
+        }
+
+        return type.isRecord() ? recordPlan(type) : beanPlan(type);
+    }
+
+    //<editor-fold desc="Arrays">
+
+    private static CopyPlan arrayPlan(Class<?> component) {
+        if (component.isPrimitive()) {
+            return tracked((value, copies) -> primitiveClone(value));
+        }
+
+        if (isShared(component) && Modifier.isFinal(component.getModifiers())) {
+            return tracked((value, copies) -> ((Object[]) value).clone());
+        }
+
+        return (value, copies) -> {
+            var source = (Object[]) value;
+            var target = (Object[]) Array.newInstance(component, source.length);
+
+            if (register(copies, value, target) != null) {
+                return copies.get(value);
+            }
+
+            for (int i = 0; i < source.length; i++) {
+                target[i] = copy(source[i], copies);
+            }
+
+            return target;
+        };
+    }
+
+    private static Object primitiveClone(Object value) {
+        return switch (value) {
+            case int[] x -> x.clone();
+            case long[] x -> x.clone();
+            case double[] x -> x.clone();
+            case byte[] x -> x.clone();
+            case char[] x -> x.clone();
+            case boolean[] x -> x.clone();
+            case float[] x -> x.clone();
+            case short[] x -> x.clone();
+            default -> throw new IllegalArgumentException(String.format("Not a primitive array: %s", value.getClass()));
+        };
+    }
+
+    //</editor-fold>
+
+    //<editor-fold desc="Collections">
+
+    private static CopyPlan collectionPlan(Class<?> type) {
+        if (ImmutableSortedSet.class.isAssignableFrom(type)) {
+            return filled(x -> new TreeSet<>(((SortedSet<Object>) x).comparator()), x -> ImmutableSortedSet.copyOfSorted((SortedSet<Object>) x), true);
+        }
+
+        if (ImmutableSet.class.isAssignableFrom(type)) {
+            return filled(x -> LinkedHashSet.newLinkedHashSet(x.size()), ImmutableSet::copyOf, true);
+        }
+
+        if (ImmutableCollection.class.isAssignableFrom(type)) {
+            return filled(x -> new ArrayList<>(x.size()), ImmutableList::copyOf, true);
+        }
+
+        if (isUnmodifiable(type)) {
+            var immutable = isImmutable(type);
+
+            if (List.class.isAssignableFrom(type)) {
+                return filled(x -> new ArrayList<>(x.size()), x -> immutable && !x.contains(null) ? List.copyOf(x) : Collections.unmodifiableList((List<Object>) x), immutable);
+            }
+
+            if (SortedSet.class.isAssignableFrom(type)) {
+                return filled(x -> new TreeSet<>(((SortedSet<Object>) x).comparator()), x -> Collections.unmodifiableSortedSet((SortedSet<Object>) x), immutable);
+            }
+
+            if (Set.class.isAssignableFrom(type)) {
+                return filled(x -> LinkedHashSet.newLinkedHashSet(x.size()), x -> immutable ? Set.copyOf(x) : Collections.unmodifiableSet((Set<Object>) x), immutable);
+            }
+
+            return filled(x -> new ArrayList<>(x.size()), Collections::unmodifiableCollection, immutable);
+        }
+
+        if (type == CopyOnWriteArrayList.class) {
+            return filled(x -> new ArrayList<>(x.size()), CopyOnWriteArrayList::new, false);
+        }
+
+        return filled(collectionFactory(type), null, false);
+    }
+
+    private static Function<Collection<Object>, Collection<Object>> collectionFactory(Class<?> type) {
+        if (type == ArrayList.class) {
+            return x -> new ArrayList<>(x.size());
+        }
+
+        if (type == HashSet.class) {
+            return x -> HashSet.newHashSet(x.size());
+        }
+
+        if (type == LinkedHashSet.class) {
+            return x -> LinkedHashSet.newLinkedHashSet(x.size());
+        }
+
+        if (type == LinkedList.class) {
+            return x -> new LinkedList<>();
+        }
+
+        if (type == ArrayDeque.class) {
+            return x -> new ArrayDeque<>(x.size());
+        }
+
+        if (type == TreeSet.class) {
+            return x -> new TreeSet<>(((TreeSet<Object>) x).comparator());
+        }
+
+        if (type == PriorityQueue.class) {
+            return x -> new PriorityQueue<>(Math.max(1, x.size()), ((PriorityQueue<Object>) x).comparator());
+        }
+
+        return generic(type, () -> {
+            if (SortedSet.class.isAssignableFrom(type)) {
+                return x -> new TreeSet<>(((SortedSet<Object>) x).comparator());
+            }
+
+            if (Set.class.isAssignableFrom(type)) {
+                return x -> LinkedHashSet.newLinkedHashSet(x.size());
+            }
+
+            if (Deque.class.isAssignableFrom(type) || (Queue.class.isAssignableFrom(type) && !List.class.isAssignableFrom(type))) {
+                return x -> new ArrayDeque<>(x.size());
+            }
+
+            return x -> new ArrayList<>(x.size());
+        });
+    }
+
+    //-- Immutable sources whose elements are all shared are returned as they are; unmodifiable views are always copied,
+    //-- into a view over an ordered target, since Set.copyOf/Map.copyOf would drop the order of the wrapped collection
+    private static CopyPlan filled(Function<Collection<Object>, Collection<Object>> factory,
+                                   UnaryOperator<Collection<Object>> finisher,
+                                   boolean immutable) {
+        return (value, copies) -> {
+            Collection<Object> source = cast(value);
+
+            if (immutable && allShared(source)) {
+                return value;
+            }
+
+            var target = factory.apply(source);
+
+            if (register(copies, value, (finisher == null) ? target : IN_PROGRESS) != null) {
+                return copies.get(value);
+            }
+
+            var changed = false;
+
+            for (var element : source) {
+                var copy = copy(element, copies);
+
+                changed |= (copy != element);
+                target.add(copy);
+            }
+
+            return (finisher == null) ? target : complete(copies, value, (changed || !immutable) ? finisher.apply(target) : value);
+        };
+    }
+
+    //</editor-fold>
+
+    //<editor-fold desc="Maps">
+
+    private static CopyPlan mapPlan(Class<?> type) {
+        if (ImmutableMap.class.isAssignableFrom(type)) {
+            if (ImmutableSortedMap.class.isAssignableFrom(type)) {
+                return entries(x -> new TreeMap<>(((SortedMap<Object, Object>) x).comparator()), x -> ImmutableSortedMap.copyOfSorted((SortedMap<Object, Object>) x), true);
+            }
+
+            if (ImmutableBiMap.class.isAssignableFrom(type)) {
+                return entries(x -> LinkedHashMap.newLinkedHashMap(x.size()), ImmutableBiMap::copyOf, true);
+            }
+
+            return entries(x -> LinkedHashMap.newLinkedHashMap(x.size()), ImmutableMap::copyOf, true);
+        }
+
+        if (isUnmodifiable(type)) {
+            var immutable = isImmutable(type);
+
+            if (SortedMap.class.isAssignableFrom(type)) {
+                return entries(x -> new TreeMap<>(((SortedMap<Object, Object>) x).comparator()), x -> Collections.unmodifiableSortedMap((SortedMap<Object, Object>) x), immutable);
+            }
+
+            return entries(x -> LinkedHashMap.newLinkedHashMap(x.size()), x -> immutable ? Map.copyOf(x) : Collections.unmodifiableMap(x), immutable);
+        }
+
+        return entries(mapFactory(type), null, false);
+    }
+
+    private static Function<Map<Object, Object>, Map<Object, Object>> mapFactory(Class<?> type) {
+        if (type == HashMap.class) {
+            return x -> HashMap.newHashMap(x.size());
+        }
+
+        if (type == LinkedHashMap.class) {
+            return x -> LinkedHashMap.newLinkedHashMap(x.size());
+        }
+
+        if (type == TreeMap.class) {
+            return x -> new TreeMap<>(((TreeMap<Object, Object>) x).comparator());
+        }
+
+        if (type == ConcurrentHashMap.class) {
+            return x -> new ConcurrentHashMap<>(Math.max(16, x.size() * 4 / 3 + 1));
+        }
+
+        if (type == IdentityHashMap.class) {
+            return x -> new IdentityHashMap<>(x.size());
+        }
+
+        if (type == ConcurrentSkipListMap.class) {
+            return x -> new ConcurrentSkipListMap<>(((ConcurrentSkipListMap<Object, Object>) x).comparator());
+        }
+
+        if (type == EnumMap.class) {
+            return x -> {
+                EnumMap<?, Object> source = cast(x);
+                var                target = new EnumMap<>(source);
+
+                target.clear();
+
+                return cast(target);
+            };
+        }
+
+        return generic(type, () -> SortedMap.class.isAssignableFrom(type)
+                                   ? x -> new TreeMap<>(((SortedMap<Object, Object>) x).comparator())
+                                   : x -> LinkedHashMap.newLinkedHashMap(x.size()));
+    }
+
+    private static CopyPlan entries(Function<Map<Object, Object>, Map<Object, Object>> factory,
+                                    UnaryOperator<Map<Object, Object>> finisher,
+                                    boolean immutable) {
+        return (value, copies) -> {
+            Map<Object, Object> source = cast(value);
+
+            if (immutable && allShared(source.keySet()) && allShared(source.values())) {
+                return value;
+            }
+
+            var target = factory.apply(source);
+
+            if (register(copies, value, (finisher == null) ? target : IN_PROGRESS) != null) {
+                return copies.get(value);
+            }
+
+            var changed = false;
+
+            for (var entry : source.entrySet()) {
+                var key  = copy(entry.getKey(), copies);
+                var copy = copy(entry.getValue(), copies);
+
+                changed |= (key != entry.getKey() || copy != entry.getValue());
+                target.put(key, copy);
+            }
+
+            return (finisher == null) ? target : complete(copies, value, (changed || !immutable) ? finisher.apply(target) : value);
+        };
+    }
+
+    //</editor-fold>
+
+    //<editor-fold desc="Records and beans">
+
+    private static CopyPlan recordPlan(Class<?> type) {
+        var components = type.getRecordComponents();
+        var properties = Reflector.type(type).properties();
+        var shared     = new boolean[components.length];
+
+        Function<Object, Object>[] getters = cast(new Function<?, ?>[components.length]);
+
+        for (int i = 0; i < components.length; i++) {
+            var property = properties.get(components[i].getName());
+
+            if (property == null || !property.isReadable()) {
+                throw new IllegalArgumentException(String.format("Cannot copy %s: component %s is not accessible", type.getName(), components[i].getName()));
+            }
+
+            getters[i] = property.getter();
+            shared[i]  = isFinalShared(components[i].getType());
+        }
+
+        InstanceFactory<?> factory = Reflector.type(type).factory(Arrays.stream(components)
+                                                                          .map(RecordComponent::getType)
+                                                                          .toArray(Class<?>[]::new));
+
+        return (value, copies) -> {
+            if (register(copies, value, IN_PROGRESS) != null) {
+                return copies.get(value);
+            }
+
+            var args    = new Object[getters.length];
+            var changed = false;
+
+            for (int i = 0; i < getters.length; i++) {
+                var component = getters[i].apply(value);
+
+                args[i]  = shared[i] ? component : copy(component, copies);
+                changed |= (args[i] != component);
+            }
+
+            return complete(copies, value, changed ? factory.newInstance(args) : value);
+        };
+    }
+
+    //-- Read/write properties go through the setter, getter-only collections and maps are refilled through the getter,
+    //-- as with Jackson's USE_GETTERS_AS_SETTERS. Other read-only properties are taken to be derived, but only as long
+    //-- as every instance field is backed by a copied property: anything else would be dropped silently
+    private static CopyPlan beanPlan(Class<?> type) {
+        InstanceFactory<?> factory;
+
+        try {
+            factory = Reflector.type(type).factory();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(String.format("Cannot copy %s: no accessible no-arg constructor", type.getName()), e);
+        }
+
+        var all        = Reflector.type(type).properties();
+        var properties = all.values().stream()
+                .filter(x -> x.isReadable() && x.isWritable())
+                .toArray(Property[]::new);
+        var containers = all.values().stream()
+                .filter(x -> x.isReadable() && !x.isWritable() && isContainer(x.type()))
+                .toArray(Property[]::new);
+        var shared     = new boolean[properties.length];
+
+        for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                var modifiers = field.getModifiers();
+                var property  = all.get(field.getName());
+
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+
+                if (property == null || !property.isReadable() || !(property.isWritable() || isContainer(property.type()))) {
+                    throw new IllegalArgumentException(String.format("Cannot copy %s: field %s is not backed by a copyable property", type.getName(), field.getName()));
+                }
+            }
+        }
+
+        for (int i = 0; i < properties.length; i++) {
+            shared[i] = isFinalShared(properties[i].type());
+        }
+
+        return (value, copies) -> {
+            var target = factory.newInstance();
+
+            if (register(copies, value, target) != null) {
+                return copies.get(value);
+            }
+
+            for (int i = 0; i < properties.length; i++) {
+                var property     = properties[i];
+                var propertyType = property.type();
+
+                if (propertyType == int.class) {
+                    property.setInt(target, property.getInt(value));
+                } else if (propertyType == long.class) {
+                    property.setLong(target, property.getLong(value));
+                } else if (propertyType == double.class) {
+                    property.setDouble(target, property.getDouble(value));
+                } else {
+                    var source = property.get(value);
+
+                    property.set(target, shared[i] ? source : copy(source, copies));
+                }
+            }
+
+            for (var property : containers) {
+                refill(property, value, target, copies);
+            }
+
+            return target;
+        };
+    }
+
+    private static void refill(Property property, Object source, Object target, Map<Object, Object> copies) {
+        var from = property.get(source);
+        var into = property.get(target);
+
+        if (from == null) {
+            return;
+        }
+
+        if (into == null) {
+            throw new IllegalArgumentException(String.format("Cannot copy %s: getter-only property %s is null on a new instance", source.getClass().getName(), property.name()));
+        }
+
+        if (copies != null) {
+            copies.putIfAbsent(from, into);
+        }
+
+        try {
+            if (into instanceof Collection<?>) {
+                Collection<Object> elements = cast(into);
+
+                elements.clear();
+                ((Collection<?>) from).forEach(x -> elements.add(copy(x, copies)));
+            } else {
+                Map<Object, Object> entries = cast(into);
+
+                entries.clear();
+                ((Map<?, ?>) from).forEach((k, v) -> entries.put(copy(k, copies), copy(v, copies)));
+            }
+        } catch (UnsupportedOperationException e) {
+            throw new IllegalArgumentException(String.format("Cannot copy %s: getter-only property %s is not modifiable", source.getClass().getName(), property.name()), e);
+        }
+    }
+
+    //</editor-fold>
+
+    private static boolean allShared(Collection<?> values) {
+        for (var value : values) {
+            if (value != null && PLANS.get(value.getClass()) != SHARED) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isContainer(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    //-- Declared types that are shared and final need no dispatch on the runtime class
+    private static boolean isFinalShared(Class<?> type) {
+        return type.isPrimitive() || (isShared(type) && Modifier.isFinal(type.getModifiers()));
+    }
+
+    private static boolean isUnmodifiable(Class<?> type) {
+        return isImmutable(type) || type.getName().startsWith("java.util.Collections$Unmodifiable");
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return type.getName().startsWith("java.util.ImmutableCollections$");
+    }
+
+    private static <F> F generic(Class<?> type, Supplier<F> fallback) {
+        InstanceFactory<?> factory;
+
+        try {
+            factory = Reflector.type(type).factory();
+        } catch (RuntimeException e) {
+            return fallback.get();
+        }
+
+        return cast((Function<Object, Object>) x -> factory.newInstance());
+    }
+
+    private static CopyPlan tracked(CopyPlan plan) {
+        return (value, copies) -> {
+            if (copies == null) {
+                return plan.copy(value, null);
+            }
+
+            var existing = copies.get(value);
+
+            if (existing != null) {
+                return existing;
+            }
+
+            var copy = plan.copy(value, null);
+            copies.put(value, copy);
+
+            return copy;
+        };
+    }
+
+    //-- Returns the already known copy (or fails on a cycle that cannot be rebuilt); null means the caller goes on
+    private static Object register(Map<Object, Object> copies, Object source, Object target) {
+        if (copies == null) {
+            return null;
+        }
+
+        var existing = copies.putIfAbsent(source, target);
+
+        if (existing == IN_PROGRESS) {
+            throw new IllegalArgumentException(String.format("Cannot copy a cycle through immutable %s", source.getClass().getName()));
+        }
+
+        return existing;
+    }
+
+    private static Object complete(Map<Object, Object> copies, Object source, Object target) {
+        if (copies != null) {
+            copies.put(source, target);
+        }
+
+        return target;
+    }
+
+    @FunctionalInterface
+    private interface CopyPlan {
+        Object copy(Object value, Map<Object, Object> copies);
+    }
+}
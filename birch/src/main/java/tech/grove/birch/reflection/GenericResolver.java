@@ -0,0 +1,191 @@
+package tech.grove.birch.reflection;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+//-- Resolves the type arguments of every generic supertype of a class, substituting type variables along the way,
+//-- e.g. for Impl extends Base<List<String>> and Base<T> implements Repository<T, Long> it yields
+//-- Base -> [List<String>] and Repository -> [List<String>, Long]
+final class GenericResolver {
+
+    private final Map<Class<?>, Type[]> arguments = new HashMap<>();
+
+    private GenericResolver() {
+    }
+
+    static Map<Class<?>, Type[]> resolve(Class<?> type) {
+        var resolver = new GenericResolver();
+        resolver.walk(type, Map.of());
+
+        return Collections.unmodifiableMap(resolver.arguments);
+    }
+
+    static Class<?> rawType(Type type) {
+        return switch (type) {
+            case Class<?> raw -> raw;
+            case ParameterizedType parameterized -> (Class<?>) parameterized.getRawType();
+            case GenericArrayType array -> Array.newInstance(rawType(array.getGenericComponentType()), 0).getClass();
+            case TypeVariable<?> variable -> rawType(variable.getBounds()[0]);
+            case WildcardType wildcard -> rawType(wildcard.getUpperBounds()[0]);
+            default -> throw new IllegalArgumentException(String.format("Unsupported type: %s", type));
+        };
+    }
+
+    private void walk(Class<?> type, Map<TypeVariable<?>, Type> bindings) {
+        if (type.getGenericSuperclass() != null) {
+            visit(type.getGenericSuperclass(), bindings);
+        }
+
+        for (var implemented : type.getGenericInterfaces()) {
+            visit(implemented, bindings);
+        }
+    }
+
+    private void visit(Type supertype, Map<TypeVariable<?>, Type> bindings) {
+        if (supertype instanceof ParameterizedType parameterized) {
+            var raw        = (Class<?>) parameterized.getRawType();
+            var resolved   = Arrays.stream(parameterized.getActualTypeArguments())
+                    .map(x -> substitute(x, bindings))
+                    .toArray(Type[]::new);
+            var parameters = raw.getTypeParameters();
+            var inner      = new HashMap<TypeVariable<?>, Type>();
+
+            for (int i = 0; i < parameters.length; i++) {
+                inner.put(parameters[i], resolved[i]);
+            }
+
+            if (arguments.putIfAbsent(raw, resolved) == null) {
+                walk(raw, inner);
+            }
+        } else if (supertype instanceof Class<?> raw && arguments.putIfAbsent(raw, new Type[0]) == null) {
+            walk(raw, Map.of());
+        }
+    }
+
+    private static Type substitute(Type type, Map<TypeVariable<?>, Type> bindings) {
+        return switch (type) {
+            case TypeVariable<?> variable -> bindings.getOrDefault(variable, variable);
+            case ParameterizedType parameterized -> new Parameterized(
+                    (Class<?>) parameterized.getRawType(),
+                    (parameterized.getOwnerType() == null) ? null : substitute(parameterized.getOwnerType(), bindings),
+                    Arrays.stream(parameterized.getActualTypeArguments()).map(x -> substitute(x, bindings)).toArray(Type[]::new));
+            case GenericArrayType array -> {
+                var component = substitute(array.getGenericComponentType(), bindings);
+
+                yield (component instanceof Class<?> raw) ? Array.newInstance(raw, 0).getClass() : new GenericArray(component);
+            }
+            case WildcardType wildcard -> new Wildcard(
+                    Arrays.stream(wildcard.getUpperBounds()).map(x -> substitute(x, bindings)).toArray(Type[]::new),
+                    Arrays.stream(wildcard.getLowerBounds()).map(x -> substitute(x, bindings)).toArray(Type[]::new));
+            default -> type;
+        };
+    }
+
+    //<editor-fold desc="Substituted type implementations (equal to the JDK ones by contract)">
+
+    private record Parameterized(Class<?> raw, Type owner, Type[] arguments) implements ParameterizedType {
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return raw;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return owner;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ParameterizedType that &&
+                   raw.equals(that.getRawType()) &&
+                   Objects.equals(owner, that.getOwnerType()) &&
+                   Arrays.equals(arguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(arguments) ^ Objects.hashCode(owner) ^ raw.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            var names = Arrays.stream(arguments).map(Type::getTypeName).toList();
+
+            return raw.getName() + "<" + String.join(", ", names) + ">";
+        }
+    }
+
+    private record GenericArray(Type component) implements GenericArrayType {
+
+        @Override
+        public Type getGenericComponentType() {
+            return component;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof GenericArrayType that && component.equals(that.getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return component.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return component.getTypeName() + "[]";
+        }
+    }
+
+    private record Wildcard(Type[] upper, Type[] lower) implements WildcardType {
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upper.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lower.clone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof WildcardType that &&
+                   Arrays.equals(upper, that.getUpperBounds()) &&
+                   Arrays.equals(lower, that.getLowerBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(upper) ^ Arrays.hashCode(lower);
+        }
+
+        @Override
+        public String toString() {
+            if (lower.length > 0) {
+                return "? super " + lower[0].getTypeName();
+            }
+
+            return (upper.length == 0 || upper[0] == Object.class) ? "?" : "? extends " + upper[0].getTypeName();
+        }
+    }
+
+    //</editor-fold>
+}
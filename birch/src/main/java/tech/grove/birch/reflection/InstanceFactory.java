@@ -0,0 +1,7 @@
+package tech.grove.birch.reflection;
+
+@FunctionalInterface
+public interface InstanceFactory<T> {
+
+    T newInstance(Object... args);
+}
@@ -0,0 +1,59 @@
+package tech.grove.birch.reflection;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+
+final class Lambdas {
+
+    private Lambdas() {
+    }
+
+    //-- Full-privilege lookup where the module graph allows it; LambdaMetafactory refuses anything less
+    static MethodHandles.Lookup lookupIn(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    //-- Empty when the metafactory cannot link the handle (access, module or type mismatch), so callers fall back to
+    //-- reflection; anything else is a real failure and is rethrown
+    static <F> Optional<F> implement(MethodHandles.Lookup lookup,
+                                     Class<F> functionalInterface,
+                                     String methodName,
+                                     MethodType erasedType,
+                                     MethodHandle implementation,
+                                     MethodType instantiatedType) {
+        try {
+            var site = LambdaMetafactory.metafactory(lookup,
+                                                     methodName,
+                                                     MethodType.methodType(functionalInterface),
+                                                     erasedType,
+                                                     implementation,
+                                                     instantiatedType);
+
+            return Optional.of(functionalInterface.cast(site.getTarget().invoke()));
+        } catch (LambdaConversionException | ReflectiveOperationException | IllegalAccessError e) {
+            return Optional.empty();
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    static RuntimeException rethrow(Throwable e) {
+        return switch (e) {
+            case RuntimeException runtime -> runtime;
+            case Error error -> throw error;
+            default -> new RuntimeException(e);
+        };
+    }
+}
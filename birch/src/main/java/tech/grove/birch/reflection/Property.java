@@ -0,0 +1,168 @@
+package tech.grove.birch.reflection;
+
+import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+//-- Compiled accessors of a single property. Primitive variants are only present for properties of that exact type
+public final class Property {
+
+    private final String                     name;
+    private final Class<?>                   type;
+    private final Type                       genericType;
+    private final Function<Object, Object>   getter;
+    private final BiConsumer<Object, Object> setter;
+    private final ToIntFunction<Object>      intGetter;
+    private final ObjIntConsumer<Object>     intSetter;
+    private final ToLongFunction<Object>     longGetter;
+    private final ObjLongConsumer<Object>    longSetter;
+    private final ToDoubleFunction<Object>   doubleGetter;
+    private final ObjDoubleConsumer<Object>  doubleSetter;
+
+    Property(String name,
+             Class<?> type,
+             Type genericType,
+             Function<Object, Object> getter,
+             BiConsumer<Object, Object> setter,
+             ToIntFunction<Object> intGetter,
+             ObjIntConsumer<Object> intSetter,
+             ToLongFunction<Object> longGetter,
+             ObjLongConsumer<Object> longSetter,
+             ToDoubleFunction<Object> doubleGetter,
+             ObjDoubleConsumer<Object> doubleSetter) {
+        this.name         = name;
+        this.type         = type;
+        this.genericType  = genericType;
+        this.getter       = getter;
+        this.setter       = setter;
+        this.intGetter    = intGetter;
+        this.intSetter    = intSetter;
+        this.longGetter   = longGetter;
+        this.longSetter   = longSetter;
+        this.doubleGetter = doubleGetter;
+        this.doubleSetter = doubleSetter;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public Type genericType() {
+        return genericType;
+    }
+
+    public boolean isReadable() {
+        return (getter != null);
+    }
+
+    public boolean isWritable() {
+        return (setter != null);
+    }
+
+    public Function<Object, Object> getter() {
+        return readable(getter);
+    }
+
+    public BiConsumer<Object, Object> setter() {
+        return writable(setter);
+    }
+
+    public ToIntFunction<Object> intGetter() {
+        return readable(intGetter);
+    }
+
+    public ObjIntConsumer<Object> intSetter() {
+        return writable(intSetter);
+    }
+
+    public ToLongFunction<Object> longGetter() {
+        return readable(longGetter);
+    }
+
+    public ObjLongConsumer<Object> longSetter() {
+        return writable(longSetter);
+    }
+
+    public ToDoubleFunction<Object> doubleGetter() {
+        return readable(doubleGetter);
+    }
+
+    public ObjDoubleConsumer<Object> doubleSetter() {
+        return writable(doubleSetter);
+    }
+
+    public Object get(Object bean) {
+        return getter().apply(bean);
+    }
+
+    public void set(Object bean, Object value) {
+        setter().accept(bean, value);
+    }
+
+    public int getInt(Object bean) {
+        return (intGetter != null) ? intGetter.applyAsInt(bean) : ((Number) get(bean)).intValue();
+    }
+
+    public void setInt(Object bean, int value) {
+        if (intSetter != null) {
+            intSetter.accept(bean, value);
+        } else {
+            set(bean, value);
+        }
+    }
+
+    public long getLong(Object bean) {
+        return (longGetter != null) ? longGetter.applyAsLong(bean) : ((Number) get(bean)).longValue();
+    }
+
+    public void setLong(Object bean, long value) {
+        if (longSetter != null) {
+            longSetter.accept(bean, value);
+        } else {
+            set(bean, value);
+        }
+    }
+
+    public double getDouble(Object bean) {
+        return (doubleGetter != null) ? doubleGetter.applyAsDouble(bean) : ((Number) get(bean)).doubleValue();
+    }
+
+    public void setDouble(Object bean, double value) {
+        if (doubleSetter != null) {
+            doubleSetter.accept(bean, value);
+        } else {
+            set(bean, value);
+        }
+    }
+
+    private <F> F readable(F accessor) {
+        if (getter == null) {
+            throw new UnsupportedOperationException(String.format("Property is not readable: %s", name));
+        }
+
+        return accessor;
+    }
+
+    private <F> F writable(F accessor) {
+        if (setter == null) {
+            throw new UnsupportedOperationException(String.format("Property is not writable: %s", name));
+        }
+
+        return accessor;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s", type.getSimpleName(), name);
+    }
+}
@@ -0,0 +1,323 @@
+package tech.grove.birch.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+//-- Records expose their components; other classes expose public getters/setters and public instance fields
+final class PropertyCompiler {
+
+    private static final class Token {
+        public static final String GETTER_PREFIX  = "get";
+        public static final String BOOLEAN_PREFIX = "is";
+        public static final String SETTER_PREFIX  = "set";
+        public static final String GET_CLASS      = "getClass";
+    }
+
+    private final Class<?>             type;
+    private final MethodHandles.Lookup lookup;
+
+    private PropertyCompiler(Class<?> type) {
+        this.type   = type;
+        this.lookup = Lambdas.lookupIn(type);
+    }
+
+    static Map<String, Property> compile(Class<?> type) {
+        return new PropertyCompiler(type).compile();
+    }
+
+    private Map<String, Property> compile() {
+        var properties = new LinkedHashMap<String, Property>();
+
+        if (type.isRecord()) {
+            Arrays.stream(type.getRecordComponents())
+                    .forEach(x -> put(properties, x.getName(), compile(x.getName(), x.getAccessor(), null)));
+        } else {
+            var getters = new LinkedHashMap<String, Method>();
+            var setters = new LinkedHashMap<String, List<Method>>();
+
+            Arrays.stream(type.getMethods())
+                    .filter(x -> !Modifier.isStatic(x.getModifiers()) && !x.isBridge() && !x.isSynthetic())
+                    .sorted(Comparator.comparing(Method::getName))
+                    .forEach(x -> {
+                        if (isGetter(x)) {
+                            getters.putIfAbsent(propertyName(x), x);
+                        } else if (isSetter(x)) {
+                            setters.computeIfAbsent(propertyName(x), name -> new ArrayList<>()).add(x);
+                        }
+                    });
+
+            getters.forEach((name, getter) -> put(properties, name, compile(name, getter, matchingSetter(setters.get(name), getter))));
+            setters.forEach((name, candidates) -> put(properties, name, compile(name, null, candidates.getFirst())));
+
+            Arrays.stream(type.getFields())
+                    .filter(x -> !Modifier.isStatic(x.getModifiers()))
+                    .forEach(x -> put(properties, x.getName(), compile(x)));
+        }
+
+        return Collections.unmodifiableMap(properties);
+    }
+
+    private static void put(Map<String, Property> properties, String name, Property property) {
+        if (property != null) {
+            properties.putIfAbsent(name, property);
+        }
+    }
+
+    private Property compile(String name, Method getter, Method setter) {
+        var propertyType = (getter != null) ? getter.getReturnType() : setter.getParameterTypes()[0];
+        var genericType  = (getter != null) ? getter.getGenericReturnType() : setter.getGenericParameterTypes()[0];
+
+        var getterHandle = Optional.ofNullable(getter).map(this::unreflect).orElse(null);
+        var setterHandle = Optional.ofNullable(setter).map(this::unreflect).orElse(null);
+
+        return (getterHandle == null && setterHandle == null) ? null : compile(name, propertyType, genericType, getterHandle, setterHandle);
+    }
+
+    private Property compile(Field field) {
+        try {
+            var getter = lookup.unreflectGetter(field);
+            var setter = Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field);
+
+            return compile(field.getName(), field.getType(), field.getGenericType(), getter, setter);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private Property compile(String name, Class<?> propertyType, Type genericType, MethodHandle getter, MethodHandle setter) {
+        return new Property(name,
+                            propertyType,
+                            genericType,
+                            (getter == null) ? null : getter(getter),
+                            (setter == null) ? null : setter(setter),
+                            (getter == null || propertyType != int.class) ? null : intGetter(getter),
+                            (setter == null || propertyType != int.class) ? null : intSetter(setter),
+                            (getter == null || propertyType != long.class) ? null : longGetter(getter),
+                            (setter == null || propertyType != long.class) ? null : longSetter(setter),
+                            (getter == null || propertyType != double.class) ? null : doubleGetter(getter),
+                            (setter == null || propertyType != double.class) ? null : doubleSetter(setter));
+    }
+
+    //-- Members the lookup cannot reach (e.g. caller-sensitive JDK methods) are left out of the model
+    private MethodHandle unreflect(Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    //<editor-fold desc="Getters">
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> getter(MethodHandle handle) {
+        var instantiated = handle.type().changeReturnType(Lambdas.wrap(handle.type().returnType()));
+
+        return Lambdas.implement(lookup, Function.class, "apply", MethodType.methodType(Object.class, Object.class), handle, instantiated)
+                .map(x -> (Function<Object, Object>) x)
+                .orElseGet(() -> {
+                    var generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+
+                    return bean -> {
+                        try {
+                            return generic.invokeExact(bean);
+                        } catch (Throwable e) {
+                            throw Lambdas.rethrow(e);
+                        }
+                    };
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ToIntFunction<Object> intGetter(MethodHandle handle) {
+        return Lambdas.implement(lookup, ToIntFunction.class, "applyAsInt", MethodType.methodType(int.class, Object.class), handle, handle.type())
+                .map(x -> (ToIntFunction<Object>) x)
+                .orElseGet(() -> {
+                    var generic = handle.asType(MethodType.methodType(int.class, Object.class));
+
+                    return bean -> {
+                        try {
+                            return (int) generic.invokeExact(bean);
+                        } catch (Throwable e) {
+                            throw Lambdas.rethrow(e);
+                        }
+                    };
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ToLongFunction<Object> longGetter(MethodHandle handle) {
+        return Lambdas.implement(lookup, ToLongFunction.class, "applyAsLong", MethodType.methodType(long.class, Object.class), handle, handle.type())
+                .map(x -> (ToLongFunction<Object>) x)
+                .orElseGet(() -> {
+                    var generic = handle.asType(MethodType.methodType(long.class, Object.class));
+
+                    return bean -> {
+                        try {
+                            return (long) generic.invokeExact(bean);
+                        } catch (Throwable e) {
+                            throw Lambdas.rethrow(e);
+                        }
+                    };
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ToDoubleFunction<Object> doubleGetter(MethodHandle handle) {
+        return Lambdas.implement(lookup, ToDoubleFunction.class, "applyAsDouble", MethodType.methodType(double.class, Object.class), handle, handle.type())
+                .map(x -> (ToDoubleFunction<Object>) x)
+                .orElseGet(() -> {
+                    var generic = handle.asType(MethodType.methodType(double.class, Object.class));
+
+                    return bean -> {
+                        try {
+                            return (double) generic.invokeExact(bean);
+                        } catch (Throwable e) {
+                            throw Lambdas.rethrow(e);
+                        }
+                    };
+                });
+    }
+
+    //</editor-fold>
+
+    //<editor-fold desc="Setters">
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<Object, Object> setter(MethodHandle handle) {
+        var instantiated = MethodType.methodType(void.class, handle.type().parameterType(0), Lambdas.wrap(handle.type().parameterType(1)));
+
+        return Lambdas.implement(lookup, BiConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class), handle, instantiated)
+                .map(x -> (BiConsumer<Object, Object>) x)
+                .orElseGet(() -> {
+                    var generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+                    return (bean, value) -> {
+                        try {
+                            generic.invokeExact(bean, value);
+                        } catch (Throwable e) {
+                            throw Lambdas.rethrow(e);
+                        }
+                    };
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjIntConsumer<Object> intSetter(MethodHandle handle) {
+        var instantiated = MethodType.methodType(void.class, handle.type().parameterType(0), int.class);
+
+        return Lambdas.implement(lookup, ObjIntConsumer.class, "accept", MethodType.methodType(void.class, Object.class, int.class), handle, instantiated)
+                .map(x -> (ObjIntConsumer<Object>) x)
+                .orElseGet(() -> {
+                    var generic = handle.asType(MethodType.methodType(void.class, Object.class, int.class));
+
+                    return (bean, value) -> {
+                        try {
+                            generic.invokeExact(bean, value);
+                        } catch (Throwable e) {
+                            throw Lambdas.rethrow(e);
+                        }
+                    };
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjLongConsumer<Object> longSetter(MethodHandle handle) {
+        var instantiated = MethodType.methodType(void.class, handle.type().parameterType(0), long.class);
+
+        return Lambdas.implement(lookup, ObjLongConsumer.class, "accept", MethodType.methodType(void.class, Object.class, long.class), handle, instantiated)
+                .map(x -> (ObjLongConsumer<Object>) x)
+                .orElseGet(() -> {
+                    var generic = handle.asType(MethodType.methodType(void.class, Object.class, long.class));
+
+                    return (bean, value) -> {
+                        try {
+                            generic.invokeExact(bean, value);
+                        } catch (Throwable e) {
+                            throw Lambdas.rethrow(e);
+                        }
+                    };
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjDoubleConsumer<Object> doubleSetter(MethodHandle handle) {
+        var instantiated = MethodType.methodType(void.class, handle.type().parameterType(0), double.class);
+
+        return Lambdas.implement(lookup, ObjDoubleConsumer.class, "accept", MethodType.methodType(void.class, Object.class, double.class), handle, instantiated)
+                .map(x -> (ObjDoubleConsumer<Object>) x)
+                .orElseGet(() -> {
+                    var generic = handle.asType(MethodType.methodType(void.class, Object.class, double.class));
+
+                    return (bean, value) -> {
+                        try {
+                            generic.invokeExact(bean, value);
+                        } catch (Throwable e) {
+                            throw Lambdas.rethrow(e);
+                        }
+                    };
+                });
+    }
+
+    //</editor-fold>
+
+    private static boolean isGetter(Method method) {
+        if (method.getParameterCount() != 0 || method.getReturnType() == void.class || method.getName().equals(Token.GET_CLASS)) {
+            return false;
+        }
+
+        return (method.getName().startsWith(Token.GETTER_PREFIX) && method.getName().length() > Token.GETTER_PREFIX.length()) ||
+               (method.getName().startsWith(Token.BOOLEAN_PREFIX) && method.getName().length() > Token.BOOLEAN_PREFIX.length() &&
+                method.getReturnType() == boolean.class);
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getParameterCount() == 1 &&
+               method.getName().startsWith(Token.SETTER_PREFIX) &&
+               method.getName().length() > Token.SETTER_PREFIX.length();
+    }
+
+    private static Method matchingSetter(List<Method> candidates, Method getter) {
+        return Optional.ofNullable(candidates).stream()
+                .flatMap(List::stream)
+                .filter(x -> x.getParameterTypes()[0] == getter.getReturnType())
+                .findFirst()
+                .orElse(null);
+    }
+
+    //-- Same rules as java.beans.Introspector.decapitalize: "URL" stays "URL", "Name" becomes "name"
+    private static String propertyName(Method method) {
+        var name   = method.getName();
+        var prefix = isSetter(method)
+                     ? Token.SETTER_PREFIX
+                     : (name.startsWith(Token.BOOLEAN_PREFIX) ? Token.BOOLEAN_PREFIX : Token.GETTER_PREFIX);
+        var bare   = name.substring(prefix.length());
+
+        if (bare.length() > 1 && Character.isUpperCase(bare.charAt(0)) && Character.isUpperCase(bare.charAt(1))) {
+            return bare;
+        }
+
+        return Character.toLowerCase(bare.charAt(0)) + bare.substring(1);
+    }
+}
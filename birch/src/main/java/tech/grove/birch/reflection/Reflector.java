@@ -0,0 +1,380 @@
+package tech.grove.birch.reflection;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Strings;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+public class Reflector {
+
+    private static final Set<Class<?>> primitiveWrappers = new HashSet<>();
+    private static final Set<Class<?>> primitives        = new HashSet<>();
+
+    static {
+        primitiveWrappers.add(String.class);
+        primitiveWrappers.add(Boolean.class);
+        primitiveWrappers.add(Character.class);
+        primitiveWrappers.add(Byte.class);
+        primitiveWrappers.add(Short.class);
+        primitiveWrappers.add(Integer.class);
+        primitiveWrappers.add(Long.class);
+        primitiveWrappers.add(Float.class);
+        primitiveWrappers.add(Double.class);
+        primitiveWrappers.add(Void.class);
+        primitiveWrappers.add(Duration.class);
+        primitiveWrappers.add(LocalDateTime.class);
+        primitiveWrappers.add(LocalDate.class);
+        primitiveWrappers.add(Instant.class);
+        primitiveWrappers.add(BigDecimal.class);
+        primitiveWrappers.add(Period.class);
+        primitiveWrappers.add(UUID.class);
+
+        primitives.add(int.class);
+        primitives.add(short.class);
+        primitives.add(long.class);
+        primitives.add(float.class);
+        primitives.add(double.class);
+        primitives.add(char.class);
+        primitives.add(boolean.class);
+    }
+
+    private final static class Token {
+        public final static String GETTER_PREFIX = "get";
+    }
+
+    private static final ClassValue<TypeInfo> TYPE_INFO = new ClassValue<>() {
+        @Override
+        protected TypeInfo computeValue(Class<?> type) {
+            return new TypeInfo(type);
+        }
+    };
+
+    private static final ClassValue<MethodIndex> METHOD_INDEX = new ClassValue<>() {
+        @Override
+        protected MethodIndex computeValue(Class<?> type) {
+            return new MethodIndex(type);
+        }
+    };
+
+    public static <T> Class<T> getType(T instance) {
+        return cast(instance.getClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T cast(Object instance) {
+        return (T) instance;
+    }
+
+    public static TypeAccessor type(String typeName) {
+        try {
+            return type(Class.forName(typeName));
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static TypeAccessor type(Class<?> type) {
+        return new TypeAccessor(type);
+    }
+
+    public static MethodAccessor method(Method method) {
+        return new MethodAccessor(method);
+    }
+
+    public static FieldAccessor field(Field field) {
+        return new FieldAccessor(field);
+    }
+
+    public static final class TypeAccessor extends Accessor<Class<?>> {
+
+        private final TypeInfo info;
+
+        private TypeAccessor(Class<?> type) {
+            super(type);
+            this.info = TYPE_INFO.get(type);
+        }
+
+        public Class<?> get() {
+            return value;
+        }
+
+        public boolean isEffectivelyPrimitive() {
+            return info.effectivelyPrimitive;
+        }
+
+        public boolean isPrimitive() {
+            return info.primitive;
+        }
+
+        public boolean isPrimitiveWrapper() {
+            return info.primitiveWrapper;
+        }
+
+        public boolean isEnum() {
+            return info.isEnum;
+        }
+
+        public boolean isMap() {
+            return info.map;
+        }
+
+        public boolean isIterable() {
+            return info.iterable;
+        }
+
+        public boolean isArray() {
+            return info.array;
+        }
+
+        public <A extends Annotation> A getAnnotation(Class<A> annotationClass) {
+            return annotationClass.cast(info.annotations.get(annotationClass));
+        }
+
+        public <A extends Annotation> boolean hasAnnotation(Class<A> annotationClass) {
+            return info.annotations.containsKey(annotationClass);
+        }
+
+        public <T> InstanceFactory<T> factory(Class<?>... argTypes) {
+            return cast(info.constructors.factory(argTypes));
+        }
+
+        //-- Null arguments match any reference parameter; boxed arguments also match primitive parameters
+        public <T> T newInstance(Object... args) {
+            Class<?>[] argTypes = null;
+
+            if (args != null && args.length > 0) {
+                argTypes = Arrays.stream(args)
+                        .map(x -> (x == null) ? null : x.getClass())
+                        .toArray(x -> new Class<?>[x]);
+            }
+
+            return cast(factory(argTypes).newInstance(args));
+        }
+
+        public Map<String, Property> properties() {
+            var properties = info.properties;
+
+            if (properties == null) {
+                info.properties = properties = PropertyCompiler.compile(value);
+            }
+
+            return properties;
+        }
+
+        public Property property(String name) {
+            return Optional.ofNullable(properties().get(name))
+                    .orElseThrow(() -> new IllegalArgumentException(String.format("Unknown property %s of %s", name, value)));
+        }
+
+        public Class<?> extractSuperclassGenericParameter() {
+            var superclass = value.getSuperclass();
+
+            if (superclass == null || superclass.getTypeParameters().length == 0) {
+                throw new RuntimeException(String.format("Unsupported super class: %s", value));
+            }
+
+            return GenericResolver.rawType(typeArgument(superclass, 0));
+        }
+
+        //-- Type arguments of a generic superclass or interface as seen from this type, with inherited variables substituted
+        public Type[] typeArguments(Class<?> supertype) {
+            var arguments = supertypeArguments().get(supertype);
+
+            if (arguments == null || arguments.length == 0) {
+                throw new IllegalArgumentException(String.format("%s is not a generic supertype of %s", supertype, value));
+            }
+
+            return arguments.clone();
+        }
+
+        public Type typeArgument(Class<?> supertype, int index) {
+            var arguments = typeArguments(supertype);
+
+            if (index < 0 || index >= arguments.length) {
+                throw new IllegalArgumentException(String.format("%s has no type parameter #%d", supertype, index));
+            }
+
+            return arguments[index];
+        }
+
+        private Map<Class<?>, Type[]> supertypeArguments() {
+            var arguments = info.supertypeArguments;
+
+            if (arguments == null) {
+                info.supertypeArguments = arguments = GenericResolver.resolve(value);
+            }
+
+            return arguments;
+        }
+    }
+
+    //-- Everything TypeAccessor can answer about a class, computed once and kept alongside the class itself
+    private static final class TypeInfo {
+
+        private final boolean primitive;
+        private final boolean primitiveWrapper;
+        private final boolean isEnum;
+        private final boolean effectivelyPrimitive;
+        private final boolean map;
+        private final boolean iterable;
+        private final boolean array;
+
+        private final Map<Class<? extends Annotation>, Annotation> annotations;
+        private final ConstructorResolver                          constructors;
+
+        private volatile Map<Class<?>, Type[]> supertypeArguments;
+        private volatile Map<String, Property> properties;
+
+        private TypeInfo(Class<?> type) {
+            this.primitive            = type.isPrimitive();
+            this.primitiveWrapper     = primitiveWrappers.contains(type);
+            this.isEnum               = type.isEnum();
+            this.effectivelyPrimitive = primitive || isEnum || primitiveWrapper;
+            this.map                  = Map.class.isAssignableFrom(type);
+            this.iterable             = Iterable.class.isAssignableFrom(type);
+            this.array                = type.isArray();
+            this.annotations          = Arrays.stream(type.getAnnotations())
+                    .collect(Collectors.toUnmodifiableMap(Annotation::annotationType, x -> x));
+            this.constructors         = new ConstructorResolver(type);
+        }
+    }
+
+    public static final class MethodAccessor extends Accessor<Method> {
+
+        private MethodAccessor(Method method) {
+            super(method);
+        }
+
+        public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+            return getAnnotation(value, annotationClass);
+        }
+
+        public <T extends Annotation> boolean hasAnnotation(Class<T> annotationClass) {
+            return (getAnnotation(annotationClass) != null);
+        }
+
+        private <T extends Annotation> T getAnnotation(Method method, Class<T> annotationClass) {
+            return annotationClass.cast(METHOD_INDEX.get(method.getDeclaringClass()).annotationsOf(method).get(annotationClass));
+        }
+
+        public String jsonName() {
+            var getter     = value;
+            var annotation = getAnnotation(getter, JsonProperty.class);
+
+            if (annotation == null || Strings.isNullOrEmpty(annotation.value())) {
+                if (getter.getName().startsWith(Token.GETTER_PREFIX)) {
+                    return getter.getName().substring(Token.GETTER_PREFIX.length());
+                } else {
+                    return getter.getName();
+                }
+            } else {
+                return annotation.value();
+            }
+
+        }
+    }
+
+    //-- Inherited method annotations of one declaring class. The hierarchy is walked once, in the same order the
+    //-- resolution always used (superclasses, the class itself, then their interfaces), and the first annotation
+    //-- of each type found for a signature wins
+    private static final class MethodIndex {
+
+        private final    Class<?>                                                              declaringClass;
+        private final    ConcurrentMap<Method, Map<Class<? extends Annotation>, Annotation>>   methods = new ConcurrentHashMap<>();
+        private volatile Map<MethodSignature, Map<Class<? extends Annotation>, Annotation>> signatures;
+
+        private MethodIndex(Class<?> declaringClass) {
+            this.declaringClass = declaringClass;
+        }
+
+        private Map<Class<? extends Annotation>, Annotation> annotationsOf(Method method) {
+            return methods.computeIfAbsent(method, x -> signatures().getOrDefault(MethodSignature.of(x), Map.of()));
+        }
+
+        private Map<MethodSignature, Map<Class<? extends Annotation>, Annotation>> signatures() {
+            var result = signatures;
+
+            if (result == null) {
+                signatures = result = index();
+            }
+
+            return result;
+        }
+
+        private Map<MethodSignature, Map<Class<? extends Annotation>, Annotation>> index() {
+            var index = new HashMap<MethodSignature, Map<Class<? extends Annotation>, Annotation>>();
+
+            for (var type : hierarchy()) {
+                for (var method : type.getDeclaredMethods()) {
+                    for (var annotation : method.getDeclaredAnnotations()) {
+                        index.computeIfAbsent(MethodSignature.of(method), x -> new HashMap<>())
+                                .putIfAbsent(annotation.annotationType(), annotation);
+                    }
+                }
+            }
+
+            index.replaceAll((signature, annotations) -> Map.copyOf(annotations));
+
+            return Map.copyOf(index);
+        }
+
+        private Collection<Class<?>> hierarchy() {
+            var classes = new LinkedHashSet<Class<?>>(ClassUtils.getAllSuperclasses(declaringClass));
+            classes.add(declaringClass);
+
+            var hierarchy = new LinkedHashSet<Class<?>>(classes);
+            classes.forEach(x -> hierarchy.addAll(ClassUtils.getAllInterfaces(x)));
+
+            return hierarchy;
+        }
+    }
+
+    private record MethodSignature(String name, List<Class<?>> parameterTypes) {
+
+        private static MethodSignature of(Method method) {
+            return new MethodSignature(method.getName(), List.of(method.getParameterTypes()));
+        }
+    }
+
+    public static final class FieldAccessor extends Accessor<Field> {
+
+        private FieldAccessor(Field field) {
+            super(field);
+        }
+
+        public Field get() {
+            return value;
+        }
+
+        public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+            return value.getAnnotation(annotationClass);
+        }
+
+        public <T extends Annotation> boolean hasAnnotation(Class<T> annotationClass) {
+            return (getAnnotation(annotationClass) != null);
+        }
+    }
+
+    //-- Accessors are plain immutable wrappers, so they are safe to keep and share across threads
+    protected abstract static class Accessor<V> {
+
+        protected final V value;
+
+        protected Accessor(V value) {
+
+            Optional.ofNullable(value).orElseThrow(() -> new IllegalArgumentException("value"));
+
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
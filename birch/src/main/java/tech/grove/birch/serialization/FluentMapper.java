@@ -0,0 +1,318 @@
+package tech.grove.birch.serialization;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Maps;
+import tech.grove.birch.patterns.builder.GenericBuilder;
+import tech.grove.birch.serialization.accessors.AsyncReader;
+import tech.grove.birch.serialization.accessors.BatchAccessor;
+import tech.grove.birch.serialization.accessors.BytesAccessor;
+import tech.grove.birch.serialization.accessors.InstanceAccessor;
+import tech.grove.birch.serialization.accessors.JsonAccessor;
+import tech.grove.birch.serialization.accessors.NodeAccessor;
+import tech.grove.birch.serialization.accessors.SequenceReader;
+import tech.grove.birch.serialization.accessors.SequenceSink;
+import tech.grove.birch.serialization.creators.AccessorFactory;
+import tech.grove.birch.serialization.creators.CodecCache;
+import tech.grove.birch.serialization.creators.CodecResolver;
+import tech.grove.birch.serialization.creators.MapperCache;
+import tech.grove.birch.serialization.creators.MapperBuilder;
+import tech.grove.birch.serialization.creators.Preloader;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class FluentMapper {
+
+    private static final class Default {
+        private static final Module[]                                            MODULES      = {new JavaTimeModule()};
+        private static final Consumer<ObjectMapper>                              CONFIGURATOR = mapper -> {
+            mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+            mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            mapper.configOverride(BigDecimal.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
+        };
+        private static final BiFunction<MapperMode, MapperSettings, ObjectMapper> BUILDER      = (mode, settings) -> MapperBuilder.mapperFor(mode)
+                .configured(CONFIGURATOR)
+                .withModules(MODULES)
+                .withSettings(settings)
+                .build();
+        //-- Sized once, on first use, from -Dtech.grove.birch.mapperCache.capacity
+        private static final MapperCache                                         MAPPER_CACHE = new MapperCache(BUILDER,
+                Long.getLong(MapperCache.CAPACITY_PROPERTY, MapperCache.DEFAULT_CAPACITY));
+        private static final Mappers                                             MAPPERS      = new Mappers(MapperSettings.DEFAULT);
+        private static final AccessorFactory                                     FACTORY      = new AccessorFactory(MAPPERS);
+    }
+
+    public static JsonAccessor json(String json) {
+        return Default.FACTORY.newJson(json);
+    }
+
+    public static <N extends JsonNode> NodeAccessor<N> node(N node) {
+        return Default.FACTORY.newNode(node);
+    }
+
+    public static <I> InstanceAccessor<I> instance(I instance) {
+        return Default.FACTORY.newInstance(instance);
+    }
+
+    public static BytesAccessor bytes(byte[] bytes) {
+        return Default.FACTORY.newBytes(bytes);
+    }
+
+    public static BytesAccessor bytes(ByteBuffer bytes) {
+        return Default.FACTORY.newBytes(bytes);
+    }
+
+    public static BytesAccessor stream(InputStream stream) {
+        return Default.FACTORY.newStream(stream);
+    }
+
+    public static BytesAccessor file(Path path) {
+        return Default.FACTORY.newFile(path, MapperMode.JSON);
+    }
+
+    public static BytesAccessor file(Path path, MapperMode mode) {
+        return Default.FACTORY.newFile(path, mode);
+    }
+
+    public static BytesAccessor fromText(String text, MapperMode mode) {
+        return Default.FACTORY.newText(text, mode);
+    }
+
+    public static BytesAccessor fromBytes(byte[] bytes, MapperMode mode) {
+        return Default.FACTORY.newBytes(bytes, mode);
+    }
+
+    public static BytesAccessor fromBytes(ByteBuffer bytes, MapperMode mode) {
+        return Default.FACTORY.newBytes(bytes, mode);
+    }
+
+    public static BytesAccessor fromStream(InputStream stream, MapperMode mode) {
+        return Default.FACTORY.newStream(stream, mode);
+    }
+
+    public static SequenceReader sequence(InputStream stream) {
+        return Default.FACTORY.newSequence(stream);
+    }
+
+    public static SequenceReader sequence(Reader reader) {
+        return Default.FACTORY.newSequence(reader);
+    }
+
+    public static SequenceReader sequence(Path path) {
+        return Default.FACTORY.newSequence(path);
+    }
+
+    public static SequenceReader sequence(InputStream stream, MapperMode mode) {
+        return Default.FACTORY.newSequence(stream, mode);
+    }
+
+    public static SequenceReader sequence(Path path, MapperMode mode) {
+        return Default.FACTORY.newSequence(path, mode);
+    }
+
+    public static <T> SequenceSink<T> sequence(Stream<T> elements) {
+        return Default.FACTORY.newSequence(elements);
+    }
+
+    public static AsyncReader async() {
+        return Default.FACTORY.newAsync();
+    }
+
+    public static WarmUpReport warmUp(Class<?>... types) {
+        return Default.FACTORY.warmUp(MapperMode.JSON, Arrays.asList(types));
+    }
+
+    public static WarmUpReport warmUp(MapperMode mode, Class<?>... types) {
+        return Default.FACTORY.warmUp(mode, Arrays.asList(types));
+    }
+
+    public static WarmUpReport warmUp(String packageName) {
+        return Default.FACTORY.warmUp(MapperMode.JSON, Preloader.scan(packageName));
+    }
+
+    public static <T> BatchAccessor<T> instances(Collection<T> instances) {
+        return Default.FACTORY.newBatch(instances);
+    }
+
+    public static CacheStats codecStats() {
+        return Default.FACTORY.codecs().stats();
+    }
+
+    public static MapperCache mapperCache() {
+        return Default.MAPPER_CACHE;
+    }
+
+    //-- A private pool building mappers with the same defaults, for starters that must not share the global one
+    public static MapperCache newMapperCache(long capacity) {
+        return new MapperCache(Default.BUILDER, capacity);
+    }
+
+    public static class MapperStarter extends GenericBuilder<MapperStarter> {
+
+        private final Mappers         mappers = new Mappers(MapperSettings.DEFAULT);
+        private final AccessorFactory factory = new AccessorFactory(mappers);
+
+        //-- Switches every mode not set through withMapper to the shared mapper for these settings
+        public MapperStarter withSettings(MapperSettings settings) {
+            return setAndReturnThis(settings, mappers::use, NullValueMode.THROW);
+        }
+
+        //-- Takes over from withSettings; modes set through withMapper still win
+        public MapperStarter withResolver(MapperResolver resolver) {
+            return setAndReturnThis(resolver, mappers::use, NullValueMode.THROW);
+        }
+
+        public ObjectMapperSetter withMapper(MapperMode mode) {
+            return mapper -> setAndReturnThis(mapper, m -> mappers.register(mode, m), NullValueMode.THROW);
+        }
+
+        public JsonAccessor json(String json) {
+            return factory.newJson(json);
+        }
+
+        public <N extends JsonNode> NodeAccessor<N> node(N node) {
+            return factory.newNode(node);
+        }
+
+        public <I> InstanceAccessor<I> instance(I instance) {
+            return factory.newInstance(instance);
+        }
+
+        public BytesAccessor bytes(byte[] bytes) {
+            return factory.newBytes(bytes);
+        }
+
+        public BytesAccessor bytes(ByteBuffer bytes) {
+            return factory.newBytes(bytes);
+        }
+
+        public BytesAccessor stream(InputStream stream) {
+            return factory.newStream(stream);
+        }
+
+        public BytesAccessor file(Path path) {
+            return factory.newFile(path, MapperMode.JSON);
+        }
+
+        public BytesAccessor file(Path path, MapperMode mode) {
+            return factory.newFile(path, mode);
+        }
+
+        public BytesAccessor fromText(String text, MapperMode mode) {
+            return factory.newText(text, mode);
+        }
+
+        public BytesAccessor fromBytes(byte[] bytes, MapperMode mode) {
+            return factory.newBytes(bytes, mode);
+        }
+
+        public BytesAccessor fromBytes(ByteBuffer bytes, MapperMode mode) {
+            return factory.newBytes(bytes, mode);
+        }
+
+        public BytesAccessor fromStream(InputStream stream, MapperMode mode) {
+            return factory.newStream(stream, mode);
+        }
+
+        public SequenceReader sequence(InputStream stream) {
+            return factory.newSequence(stream);
+        }
+
+        public SequenceReader sequence(Reader reader) {
+            return factory.newSequence(reader);
+        }
+
+        public SequenceReader sequence(Path path) {
+            return factory.newSequence(path);
+        }
+
+        public SequenceReader sequence(InputStream stream, MapperMode mode) {
+            return factory.newSequence(stream, mode);
+        }
+
+        public SequenceReader sequence(Path path, MapperMode mode) {
+            return factory.newSequence(path, mode);
+        }
+
+        public <T> SequenceSink<T> sequence(Stream<T> elements) {
+            return factory.newSequence(elements);
+        }
+
+        public AsyncReader async() {
+            return factory.newAsync();
+        }
+
+        public WarmUpReport warmUp(Class<?>... types) {
+            return factory.warmUp(MapperMode.JSON, Arrays.asList(types));
+        }
+
+        public WarmUpReport warmUp(MapperMode mode, Class<?>... types) {
+            return factory.warmUp(mode, Arrays.asList(types));
+        }
+
+        public WarmUpReport warmUp(String packageName) {
+            return factory.warmUp(MapperMode.JSON, Preloader.scan(packageName));
+        }
+
+        public <T> BatchAccessor<T> instances(Collection<T> instances) {
+            return factory.newBatch(instances);
+        }
+
+        public CacheStats codecStats() {
+            return factory.codecs().stats();
+        }
+    }
+
+    public interface ObjectMapperSetter {
+        MapperStarter set(ObjectMapper mapper);
+    }
+
+    //-- Mappers registered through withMapper win; every other mode comes from the current resolver, by default the
+    //-- shared cache for the current settings. Codecs come along with the mappers, so starters over the same mapper
+    //-- share its readers and writers
+    private static final class Mappers implements CodecResolver {
+
+        private final    Map<MapperMode, CodecCache.Codec> registered = Maps.newConcurrentMap();
+        private volatile CodecResolver                     shared;
+
+        private Mappers(MapperSettings settings) {
+            use(settings);
+        }
+
+        public void register(MapperMode mode, ObjectMapper mapper) {
+            if (mapper != null) {
+                registered.put(mode, new CodecCache.Codec(mapper, CodecCache.DEFAULT_CAPACITY));
+            }
+        }
+
+        public void use(MapperSettings settings) {
+            use(Default.MAPPER_CACHE.resolverFor(settings));
+        }
+
+        public void use(MapperResolver resolver) {
+            shared = (resolver instanceof CodecResolver codecs) ? codecs : new CodecCache(resolver);
+        }
+
+        @Override
+        public CodecCache.Codec codecFor(MapperMode mode) {
+            var codec = registered.get(mode);
+
+            return (codec != null) ? codec : shared.codecFor(mode);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package tech.grove.birch.serialization;
+
+public enum MapperMode {
+    JSON(true),
+    YAML(true),
+    SMILE(false),
+    CBOR(false);
+
+    private final boolean textual;
+
+    MapperMode(boolean textual) {
+        this.textual = textual;
+    }
+
+    //-- Binary formats cannot be parsed from character sources
+    public boolean isTextual() {
+        return textual;
+    }
+}
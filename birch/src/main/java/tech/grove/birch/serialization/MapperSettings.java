@@ -0,0 +1,95 @@
+package tech.grove.birch.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import tech.grove.birch.patterns.builder.GenericBuilder;
+
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+
+//-- Everything that makes one mapper configuration differ from the defaults. Being a record, equal settings are an
+//-- equal fingerprint, so tenants with the same configuration share the same mapper and its serializer caches.
+//-- Naming strategies compare by identity: use the PropertyNamingStrategies constants rather than new instances
+public record MapperSettings(PropertyNamingStrategy naming,
+                             String dateFormat,
+                             ZoneId timeZone,
+                             JsonInclude.Include inclusion,
+                             Map<SerializationFeature, Boolean> serialization,
+                             Map<DeserializationFeature, Boolean> deserialization,
+                             boolean optimized,
+                             boolean largeDocuments) {
+
+    public static final MapperSettings DEFAULT = builder().build();
+
+    public MapperSettings {
+        serialization   = Map.copyOf(serialization);
+        deserialization = Map.copyOf(deserialization);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends GenericBuilder<Builder> {
+
+        private final Map<SerializationFeature, Boolean>   serialization   = new EnumMap<>(SerializationFeature.class);
+        private final Map<DeserializationFeature, Boolean> deserialization = new EnumMap<>(DeserializationFeature.class);
+        private       PropertyNamingStrategy               naming;
+        private       String                               dateFormat;
+        private       ZoneId                               timeZone;
+        private       JsonInclude.Include                  inclusion;
+        private       boolean                              optimized;
+        private       boolean                              largeDocuments;
+
+        private Builder() {
+        }
+
+        public Builder withNaming(PropertyNamingStrategy naming) {
+            return setAndReturnThis(naming, x -> this.naming = x);
+        }
+
+        public Builder withDateFormat(String dateFormat) {
+            return setAndReturnThis(dateFormat, x -> this.dateFormat = x);
+        }
+
+        public Builder withTimeZone(ZoneId timeZone) {
+            return setAndReturnThis(timeZone, x -> this.timeZone = x);
+        }
+
+        public Builder withInclusion(JsonInclude.Include inclusion) {
+            return setAndReturnThis(inclusion, x -> this.inclusion = x);
+        }
+
+        public Builder enable(SerializationFeature feature) {
+            return setAndReturnThis(feature, x -> serialization.put(x, true), NullValueMode.THROW);
+        }
+
+        public Builder disable(SerializationFeature feature) {
+            return setAndReturnThis(feature, x -> serialization.put(x, false), NullValueMode.THROW);
+        }
+
+        public Builder enable(DeserializationFeature feature) {
+            return setAndReturnThis(feature, x -> deserialization.put(x, true), NullValueMode.THROW);
+        }
+
+        public Builder disable(DeserializationFeature feature) {
+            return setAndReturnThis(feature, x -> deserialization.put(x, false), NullValueMode.THROW);
+        }
+
+        public Builder optimized() {
+            return runAndReturnThis(() -> optimized = true);
+        }
+
+        //-- Lifts the YAML code point limit; only for mappers that read trusted, known-large documents
+        public Builder largeDocuments() {
+            return runAndReturnThis(() -> largeDocuments = true);
+        }
+
+        public MapperSettings build() {
+            return new MapperSettings(naming, dateFormat, timeZone, inclusion, serialization, deserialization, optimized, largeDocuments);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package tech.grove.birch.serialization;
+
+public enum SequenceFormat {
+    ARRAY,
+    LINES
+}
@@ -0,0 +1,195 @@
+package tech.grove.birch.serialization;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+public interface SerializationApi {
+
+    <T> InstanceAccessor<T> instance(T instance);
+
+    interface InstanceAccessor<T> extends Get<T>, AsJson, AsNode, AsBytes, AsFormat {
+    }
+
+    <N extends JsonNode> NodeAccessor<N> node(String json);
+
+    interface NodeAccessor<N extends JsonNode> extends Get<N>, AsJson, AsType, AsBytes, AsFormat {
+    }
+
+    JsonAccessor json(String json);
+
+    interface JsonAccessor extends Get<String>, AsType, AsNode, AsBytes, AsFormat, AsPath, AsLazyNode {
+
+        String getPretty();
+
+        void writeTo(Path path);
+    }
+
+    BytesAccessor bytes(byte[] bytes);
+
+    BytesAccessor bytes(ByteBuffer bytes);
+
+    BytesAccessor stream(InputStream stream);
+
+    BytesAccessor file(Path path);
+
+    BytesAccessor file(Path path, MapperMode mode);
+
+    BytesAccessor fromText(String text, MapperMode mode);
+
+    BytesAccessor fromBytes(byte[] bytes, MapperMode mode);
+
+    BytesAccessor fromBytes(ByteBuffer bytes, MapperMode mode);
+
+    BytesAccessor fromStream(InputStream stream, MapperMode mode);
+
+    interface BytesAccessor extends Get<byte[]>, AsType, AsNode, AsFormat, AsPath, AsLazyNode {
+
+        void writeTo(OutputStream out);
+
+        void writeTo(Path path);
+    }
+
+    SequenceReader sequence(InputStream stream);
+
+    SequenceReader sequence(Reader reader);
+
+    SequenceReader sequence(Path path);
+
+    SequenceReader sequence(InputStream stream, MapperMode mode);
+
+    SequenceReader sequence(Path path, MapperMode mode);
+
+    interface SequenceReader {
+
+        <T> SequenceAccessor<T> asType(Class<T> type);
+
+        <T> SequenceAccessor<T> asType(TypeReference<T> type);
+    }
+
+    interface SequenceAccessor<T> extends Get<Stream<T>> {
+
+        Iterator<T> iterator();
+    }
+
+    <T> SequenceSink<T> sequence(Stream<T> elements);
+
+    AsyncReader async();
+
+    WarmUpReport warmUp(Class<?>... types);
+
+    WarmUpReport warmUp(MapperMode mode, Class<?>... types);
+
+    WarmUpReport warmUp(String packageName);
+
+    interface AsyncReader {
+
+        <T> AsyncValue<T> asType(Class<T> type);
+
+        <T> AsyncValue<T> asType(TypeReference<T> type);
+
+        <T> AsyncSequence<T> asSequence(Class<T> type, SequenceFormat format);
+
+        <T> AsyncSequence<T> asSequence(TypeReference<T> type, SequenceFormat format);
+    }
+
+    //-- Chunks are fed by one producer at a time and are fully consumed before feed() returns
+    interface AsyncFeed {
+
+        void feed(ByteBuffer chunk);
+
+        void complete();
+
+        void abort(Throwable cause);
+    }
+
+    interface AsyncValue<T> extends AsyncFeed, Get<CompletableFuture<T>> {
+    }
+
+    interface AsyncSequence<T> extends AsyncFeed, Flow.Publisher<T> {
+    }
+
+    interface SequenceSink<T> {
+
+        void writeTo(OutputStream out, SequenceFormat format);
+
+        void writeTo(Writer out, SequenceFormat format);
+
+        void writeTo(Path path, SequenceFormat format);
+    }
+
+    <T> BatchAccessor<T> instances(Collection<T> instances);
+
+    interface BatchAccessor<T> extends Get<List<T>> {
+
+        BatchAccessor<T> using(Executor executor);
+
+        BatchAccessor<String> asJson();
+
+        <N extends JsonNode> BatchAccessor<N> asNode(Class<N> type);
+
+        <R> BatchAccessor<R> asType(Class<R> type);
+
+        <R> BatchAccessor<R> asType(TypeReference<R> type);
+    }
+
+    interface Get<T> {
+
+        T get();
+    }
+
+    interface AsType {
+
+        <T> InstanceAccessor<T> asType(Class<T> type);
+
+        <T> InstanceAccessor<T> asType(TypeReference<T> type);
+    }
+
+    interface AsNode {
+
+        <N extends JsonNode> NodeAccessor<N> asNode(Class<N> type);
+    }
+
+    interface AsJson {
+
+        JsonAccessor asJson();
+    }
+
+    interface AsBytes {
+
+        BytesAccessor asBytes();
+    }
+
+    interface AsFormat {
+
+        BytesAccessor asFormat(MapperMode mode);
+    }
+
+    interface AsLazyNode {
+
+        NodeAccessor<JsonNode> asLazyNode();
+    }
+
+    interface AsPath {
+
+        <T> InstanceAccessor<T> at(String pointer, Class<T> type);
+
+        <T> InstanceAccessor<T> at(String pointer, TypeReference<T> type);
+
+        InstanceAccessor<Map<String, Object>> extract(Map<String, Class<?>> paths);
+    }
+}
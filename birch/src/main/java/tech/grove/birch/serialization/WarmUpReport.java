@@ -0,0 +1,21 @@
+package tech.grove.birch.serialization;
+
+import java.time.Duration;
+import java.util.Map;
+
+//-- Outcome of warming a mapper for a set of types: how many were attempted, how long it took, and why the ones
+//-- that could not be prepared failed (they are warmed lazily on first use, as before)
+public record WarmUpReport(int types, Duration elapsed, Map<Class<?>, Throwable> failures) {
+
+    public WarmUpReport {
+        failures = Map.copyOf(failures);
+    }
+
+    public int warmed() {
+        return types - failures.size();
+    }
+
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
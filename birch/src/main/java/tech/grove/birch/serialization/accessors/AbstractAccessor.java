@@ -0,0 +1,208 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import tech.grove.birch.delegates.ThrowingFunction;
+import tech.grove.birch.serialization.creators.AccessorFactory;
+import tech.grove.birch.serialization.creators.CodecCache;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.SerializationApi;
+import tech.grove.birch.serialization.instrumentation.Instrumentation;
+import tech.grove.birch.serialization.instrumentation.Operation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+//-- Accessors are immutable: every step creates a new one around the extended plan, so they can be shared across threads
+public abstract class AbstractAccessor<T, A extends AbstractAccessor<T, A>> implements SerializationApi.Get<T> {
+
+    private final AccessorFactory factory;
+    private final Plan            plan;
+
+    protected AbstractAccessor(AccessorFactory factory, Plan plan) {
+
+        Optional.ofNullable(plan).orElseThrow(() -> new IllegalArgumentException("plan"));
+
+        this.factory = factory;
+        this.plan    = plan;
+    }
+
+    protected Codec codec(MapperMode mode) {
+        return factory.codec(mode);
+    }
+
+    protected CodecCache codecs() {
+        return factory.codecs();
+    }
+
+    protected abstract T materialize(Plan plan) throws IOException;
+
+    @Override
+    public T get() {
+        return execute(this::materialize);
+    }
+
+    protected JavaType typeOf(Class<?> type) {
+        return codec(MapperMode.JSON).mapper().constructType(type);
+    }
+
+    protected JavaType typeOf(TypeReference<?> type) {
+        return codec(MapperMode.JSON).mapper().constructType(type);
+    }
+
+    protected JsonAccessor toJson(UnaryOperator<Plan> step) {
+        return toAccessor(JsonAccessor::new, step);
+    }
+
+    protected <N extends JsonNode> NodeAccessor<N> toNode(UnaryOperator<Plan> step) {
+        return toAccessor(NodeAccessor::new, step);
+    }
+
+    protected <I> InstanceAccessor<I> toInstance(UnaryOperator<Plan> step) {
+        return toAccessor(InstanceAccessor::new, step);
+    }
+
+    protected <I> InstanceAccessor<I> toPointer(String pointer, JavaType type) {
+        Optional.ofNullable(pointer).orElseThrow(() -> new IllegalArgumentException("pointer"));
+
+        var compiled = JsonPointer.compile(pointer);
+
+        return toInstance(x -> new Plan.At(x, compiled, type));
+    }
+
+    protected InstanceAccessor<Map<String, Object>> toExtract(Map<String, Class<?>> paths) {
+        Optional.ofNullable(paths).orElseThrow(() -> new IllegalArgumentException("paths"));
+
+        var types = new LinkedHashMap<String, JavaType>();
+
+        paths.forEach((path, type) -> {
+            JsonPointer.compile(path);
+            types.put(path, typeOf(type));
+        });
+
+        return toInstance(x -> new Plan.Extract(x, Collections.unmodifiableMap(types)));
+    }
+
+    protected BytesAccessor toFormat(MapperMode mode) {
+        Optional.ofNullable(mode).orElseThrow(() -> new IllegalArgumentException("mode"));
+
+        return toAccessor(BytesAccessor::new, x -> new Plan.Encoded(x, mode));
+    }
+
+    private <S extends AbstractAccessor<?, S>> S toAccessor(BiFunction<AccessorFactory, Plan, S> create, UnaryOperator<Plan> step) {
+        return create.apply(factory, step.apply(plan));
+    }
+
+    //-- Writes through a direct buffer into a temporary file next to the target, which then replaces the target.
+    //-- The destination is never truncated up front, so it can also be the source and survives a failed write.
+    //-- The temporary file is created like any new file (umask applies), takes over the permissions of an existing
+    //-- target and is forced to disk before the replace; a symlinked target is written through, not replaced
+    protected void writeFile(Path path, Function<Plan, MapperMode> target) {
+        Optional.ofNullable(path).orElseThrow(() -> new IllegalArgumentException("path"));
+
+        execute(x -> {
+            var destination = Files.exists(path) ? path.toRealPath() : path.toAbsolutePath();
+            var temporary   = destination.resolveSibling(String.format(".%s.%s.tmp",
+                                                                          destination.getFileName(),
+                                                                          Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36)));
+
+            try {
+                try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                    try (var out = new ChannelOutputStream(channel)) {
+                        x.writeTo(codecs(), target.apply(x), out);
+                    }
+
+                    channel.force(true);
+                }
+
+                copyPermissions(destination, temporary);
+                replace(temporary, destination);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+
+            return path;
+        });
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (Files.exists(source) && Files.getFileAttributeView(target, PosixFileAttributeView.class) != null) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    private static void replace(Path source, Path destination) throws IOException {
+        try {
+            Files.move(source, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    //-- Whether the terminal of this accessor produces an encoded form (text or bytes) rather than an object
+    protected boolean encodes() {
+        return false;
+    }
+
+    protected <R> R execute(ThrowingFunction<Plan, R, IOException> function) {
+        if (Instrumentation.isActive()) {
+            return measured(function);
+        }
+
+        try {
+            return function.apply(plan);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <R> R measured(ThrowingFunction<Plan, R, IOException> function) {
+        var       root        = plan.root();
+        var       operation   = Operation.of(root.form().isEncoded(), encodes());
+        var       measurement = Instrumentation.begin(operation);
+        R         result      = null;
+        Throwable failure     = null;
+
+        try {
+            result = function.apply(plan);
+            return result;
+        } catch (IOException e) {
+            failure = e;
+            throw new RuntimeException(e);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            var input  = (root instanceof Plan.Value value) ? value.value() : null;
+            var source = (input == null) ? Object.class : input.getClass();
+            var target = (result != null) ? result.getClass() : (plan instanceof Plan.Typed typed) ? typed.type().getRawClass() : Object.class;
+
+            measurement.end(operation.encodes() ? plan.mode() : root.mode(),
+                            operation.encodes() ? source : target,
+                            (input instanceof ByteBuffer bytes) ? bytes.remaining() : -1,
+                            (input instanceof String text) ? text.length() : -1,
+                            (result instanceof byte[] bytes) ? bytes.length : -1,
+                            (result instanceof String text) ? text.length() : -1,
+                            failure);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import tech.grove.birch.serialization.SequenceFormat;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+//-- Drives a non-blocking parser with the chunks it is fed: tokens of the value in progress are collected in a
+//-- TokenBuffer and bound as soon as the value is complete, so nothing waits for the rest of the body. A chunk is
+//-- fully consumed before feed() returns, so the caller may reuse its buffer right away
+final class AsyncDecoder {
+
+    private final JsonParser        parser;
+    private final ByteBufferFeeder  feeder;
+    private final ObjectReader      reader;
+    private final boolean           bigDecimals;
+    private final SequenceFormat    format;
+    private final Consumer<Object>  onValue;
+    private final Consumer<Throwable> onError;
+    private final Runnable          onComplete;
+
+    private TokenBuffer buffer;
+    private int         depth;
+    private boolean     opened;
+    private boolean     finished;
+
+    //-- Without a format exactly one root value is decoded; ARRAY decodes the elements of a root array, LINES every root value
+    AsyncDecoder(Codec codec,
+                 ObjectReader reader,
+                 SequenceFormat format,
+                 Consumer<Object> onValue,
+                 Consumer<Throwable> onError,
+                 Runnable onComplete) {
+
+        var mapper = codec.mapper();
+
+        if (!mapper.getFactory().canParseAsync()) {
+            throw new UnsupportedOperationException("Non-blocking parsing is not supported by " + mapper.getFactory().getFormatName());
+        }
+
+        try {
+            this.parser = mapper.getFactory().createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        this.feeder      = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        this.reader      = reader;
+        this.bigDecimals = mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.format      = format;
+        this.onValue     = onValue;
+        this.onError     = onError;
+        this.onComplete  = onComplete;
+    }
+
+    synchronized void feed(ByteBuffer chunk) {
+
+        if (chunk == null) {
+            throw new IllegalArgumentException("chunk");
+        }
+
+        if (finished) {
+            return;
+        }
+
+        try {
+            feeder.feedInput(chunk);
+            drain();
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    synchronized void complete() {
+        if (finished) {
+            return;
+        }
+
+        try {
+            feeder.endOfInput();
+            drain();
+
+            if (!finished) {
+                if (format == null || (format == SequenceFormat.ARRAY && !opened)) {
+                    throw new IOException("No content to decode: input ended before a value was complete");
+                }
+
+                finished = true;
+                close();
+                onComplete.run();
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    synchronized void abort(Throwable cause) {
+        if (!finished) {
+            fail(cause);
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+
+        while (!finished && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+
+            if (format == SequenceFormat.ARRAY && depth == 0 && buffer == null) {
+                if (!opened) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new IOException("Expected a root array but found " + token);
+                    }
+
+                    opened = true;
+                    continue;
+                }
+
+                if (token == JsonToken.END_ARRAY) {
+                    finished = true;
+                    close();
+                    onComplete.run();
+                    return;
+                }
+            }
+
+            if (buffer == null) {
+                buffer = new TokenBuffer(parser).forceUseOfBigDecimal(bigDecimals);
+            }
+
+            buffer.copyCurrentEvent(parser);
+
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+
+            if (depth == 0) {
+                emit();
+            }
+        }
+    }
+
+    private void emit() throws IOException {
+        Object value;
+
+        try (var values = buffer.asParser()) {
+            value = reader.readValue(values);
+        } finally {
+            buffer = null;
+        }
+
+        if (format == null) {
+            finished = true;
+            close();
+        }
+
+        onValue.accept(value);
+    }
+
+    private void fail(Throwable cause) {
+        finished = true;
+        buffer   = null;
+        close();
+        onError.accept(cause);
+    }
+
+    private void close() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
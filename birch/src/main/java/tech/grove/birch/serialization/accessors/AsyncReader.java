@@ -0,0 +1,40 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import tech.grove.birch.serialization.SequenceFormat;
+import tech.grove.birch.serialization.SerializationApi;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+
+public class AsyncReader implements SerializationApi.AsyncReader {
+
+    private final Codec codec;
+
+    public AsyncReader(Codec codec) {
+
+        if (codec == null) {
+            throw new IllegalArgumentException("codec");
+        }
+
+        this.codec = codec;
+    }
+
+    @Override
+    public <T> AsyncValue<T> asType(Class<T> type) {
+        return new AsyncValue<>(codec, codec.mapper().constructType(type));
+    }
+
+    @Override
+    public <T> AsyncValue<T> asType(TypeReference<T> type) {
+        return new AsyncValue<>(codec, codec.mapper().constructType(type));
+    }
+
+    @Override
+    public <T> AsyncSequence<T> asSequence(Class<T> type, SequenceFormat format) {
+        return new AsyncSequence<>(codec, codec.mapper().constructType(type), format);
+    }
+
+    @Override
+    public <T> AsyncSequence<T> asSequence(TypeReference<T> type, SequenceFormat format) {
+        return new AsyncSequence<>(codec, codec.mapper().constructType(type), format);
+    }
+}
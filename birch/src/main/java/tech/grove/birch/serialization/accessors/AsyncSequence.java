@@ -0,0 +1,147 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.databind.JavaType;
+import tech.grove.birch.serialization.SequenceFormat;
+import tech.grove.birch.serialization.SerializationApi;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+//-- Single-subscriber publisher: the feeding thread decodes, values wait in a queue until they are requested, and
+//-- signals to the subscriber are serialized through a work-in-progress counter rather than a lock
+public class AsyncSequence<T> implements SerializationApi.AsyncSequence<T> {
+
+    private final Queue<T>                                   values     = new ConcurrentLinkedQueue<>();
+    private final AtomicLong                                 demand     = new AtomicLong();
+    private final AtomicInteger                              wip        = new AtomicInteger();
+    private final AtomicReference<Flow.Subscriber<? super T>> subscriber = new AtomicReference<>();
+    private final AsyncDecoder                               decoder;
+    private volatile boolean                                 done;
+    private volatile boolean                                 cancelled;
+    private volatile Throwable                               error;
+    private          boolean                                 terminated;
+
+    AsyncSequence(Codec codec, JavaType type, SequenceFormat format) {
+
+        if (format == null) {
+            throw new IllegalArgumentException("format");
+        }
+
+        this.decoder = new AsyncDecoder(codec, codec.reader(type), format, this::onValue, this::onError, this::onComplete);
+    }
+
+    @Override
+    public void feed(ByteBuffer chunk) {
+        decoder.feed(chunk);
+    }
+
+    @Override
+    public void complete() {
+        decoder.complete();
+    }
+
+    @Override
+    public void abort(Throwable cause) {
+        decoder.abort(cause);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+
+        if (!this.subscriber.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+            return;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    onError(new IllegalArgumentException("Demand must be positive: " + n));
+                } else {
+                    demand.getAndUpdate(x -> (x + n < 0) ? Long.MAX_VALUE : x + n);
+                    drain();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                decoder.abort(new IllegalStateException("Subscription cancelled"));
+                values.clear();
+            }
+        });
+
+        drain();
+    }
+
+    private void onValue(Object value) {
+        values.add(cast(value));
+        drain();
+    }
+
+    private void onError(Throwable cause) {
+        error = cause;
+        done  = true;
+        drain();
+    }
+
+    private void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            var target = subscriber.get();
+
+            if (target != null && !cancelled && !terminated) {
+                while (demand.get() > 0 && !cancelled) {
+                    var value = values.poll();
+
+                    if (value == null) {
+                        break;
+                    }
+
+                    demand.decrementAndGet();
+                    target.onNext(value);
+                }
+
+                if (done && (error != null || values.isEmpty())) {
+                    terminated = true;
+
+                    if (error != null) {
+                        target.onError(error);
+                    } else {
+                        target.onComplete();
+                    }
+                }
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+}
@@ -0,0 +1,41 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.databind.JavaType;
+import tech.grove.birch.serialization.SerializationApi;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+public class AsyncValue<T> implements SerializationApi.AsyncValue<T> {
+
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final AsyncDecoder         decoder;
+
+    AsyncValue(Codec codec, JavaType type) {
+        this.decoder = new AsyncDecoder(codec, codec.reader(type), null, x -> result.complete(cast(x)), result::completeExceptionally, () -> {
+        });
+    }
+
+    @Override
+    public void feed(ByteBuffer chunk) {
+        decoder.feed(chunk);
+    }
+
+    @Override
+    public void complete() {
+        decoder.complete();
+    }
+
+    @Override
+    public void abort(Throwable cause) {
+        decoder.abort(cause);
+    }
+
+    @Override
+    public CompletableFuture<T> get() {
+        return result;
+    }
+}
@@ -0,0 +1,138 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import tech.grove.birch.delegates.ThrowingFunction;
+import tech.grove.birch.serialization.SerializationApi;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.creators.CodecCache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+public class BatchAccessor<T> implements SerializationApi.BatchAccessor<T> {
+
+    private static final class Constant {
+        public static final int MIN_CHUNK_SIZE    = 256;
+        public static final int CHUNKS_PER_WORKER = 4;
+    }
+
+    private final CodecCache                             codecs;
+    private final List<?>                                sources;
+    private final Function<Object, Plan>                 plan;
+    private final ThrowingFunction<Plan, T, IOException> terminal;
+    private final Executor                               executor;
+
+    public BatchAccessor(CodecCache codecs, Collection<T> instances) {
+        this(codecs, snapshot(instances), x -> Plan.of(Plan.Form.INSTANCE, x), x -> cast(x.evaluate(codecs)), ForkJoinPool.commonPool());
+    }
+
+    private BatchAccessor(CodecCache codecs,
+                          List<?> sources,
+                          Function<Object, Plan> plan,
+                          ThrowingFunction<Plan, T, IOException> terminal,
+                          Executor executor) {
+        this.codecs   = codecs;
+        this.sources  = sources;
+        this.plan     = plan;
+        this.terminal = terminal;
+        this.executor = executor;
+    }
+
+    //-- A copy, so later changes to the caller's collection don't leak into the batch; null elements are kept and
+    //-- come out as null results at the same position
+    private static List<?> snapshot(Collection<?> instances) {
+        var copy = new ArrayList<>(Optional.ofNullable(instances).orElseThrow(() -> new IllegalArgumentException("instances")));
+
+        return Collections.unmodifiableList(copy);
+    }
+
+    @Override
+    public BatchAccessor<T> using(Executor executor) {
+
+        if (executor == null) {
+            throw new IllegalArgumentException("executor");
+        }
+
+        return new BatchAccessor<>(codecs, sources, plan, terminal, executor);
+    }
+
+    @Override
+    public BatchAccessor<String> asJson() {
+        return new BatchAccessor<>(codecs, sources, plan, x -> x.toText(codecs, MapperMode.JSON), executor);
+    }
+
+    @Override
+    public <N extends JsonNode> BatchAccessor<N> asNode(Class<N> type) {
+        return new BatchAccessor<>(codecs, sources, plan.andThen(x -> new Plan.Tree(x, type)), x -> cast(x.evaluate(codecs)), executor);
+    }
+
+    @Override
+    public <R> BatchAccessor<R> asType(Class<R> type) {
+        return asType(codecs.forMode(MapperMode.JSON).mapper().constructType(type));
+    }
+
+    @Override
+    public <R> BatchAccessor<R> asType(TypeReference<R> type) {
+        return asType(codecs.forMode(MapperMode.JSON).mapper().constructType(type));
+    }
+
+    private <R> BatchAccessor<R> asType(JavaType type) {
+        return new BatchAccessor<>(codecs, sources, plan.andThen(x -> new Plan.Typed(x, type)), x -> cast(x.evaluate(codecs)), executor);
+    }
+
+    //-- Each worker converts one contiguous chunk, so Jackson's per-thread buffer recycling stays warm across elements
+    @Override
+    public List<T> get() {
+        var results   = new Object[sources.size()];
+        var chunkSize = chunkSize();
+        var chunks    = new ArrayList<CompletableFuture<Void>>();
+
+        for (int from = 0; from < results.length; from += chunkSize) {
+            var start = from;
+            var end   = Math.min(from + chunkSize, results.length);
+
+            chunks.add(CompletableFuture.runAsync(() -> convert(results, start, end), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw (e.getCause() instanceof RuntimeException runtime) ? runtime : new RuntimeException(e.getCause());
+        }
+
+        return cast(Arrays.asList(results));
+    }
+
+    private void convert(Object[] results, int from, int to) {
+        try {
+            for (int i = from; i < to; i++) {
+                var source = sources.get(i);
+
+                results[i] = (source == null) ? null : terminal.apply(plan.apply(source));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private int chunkSize() {
+        var workers = (executor instanceof ForkJoinPool pool) ? pool.getParallelism() : Runtime.getRuntime().availableProcessors();
+        var chunks  = Math.max(1, workers * Constant.CHUNKS_PER_WORKER);
+
+        return Math.max(Constant.MIN_CHUNK_SIZE, (sources.size() + chunks - 1) / chunks);
+    }
+}
@@ -0,0 +1,83 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import tech.grove.birch.serialization.creators.AccessorFactory;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.SerializationApi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
+
+public class BytesAccessor extends AbstractAccessor<byte[], BytesAccessor> implements SerializationApi.BytesAccessor {
+
+    public BytesAccessor(AccessorFactory factory, Plan plan) {
+        super(factory, plan);
+    }
+
+    //-- Bytes are always produced in the format they were given or encoded in
+    @Override
+    protected boolean encodes() {
+        return true;
+    }
+
+    @Override
+    protected byte[] materialize(Plan plan) throws IOException {
+        return plan.toBytes(codecs(), plan.mode());
+    }
+
+    @Override
+    public void writeTo(OutputStream out) {
+        execute(x -> {
+            x.writeTo(codecs(), x.mode(), out);
+            return out;
+        });
+    }
+
+    @Override
+    public void writeTo(Path path) {
+        writeFile(path, Plan::mode);
+    }
+
+    @Override
+    public BytesAccessor asFormat(MapperMode mode) {
+        return toFormat(mode);
+    }
+
+    @Override
+    public <N extends JsonNode> NodeAccessor<N> asNode(Class<N> type) {
+        return toNode(x -> new Plan.Tree(x, type));
+    }
+
+    @Override
+    public <T> InstanceAccessor<T> asType(Class<T> type) {
+        return toInstance(x -> new Plan.Typed(x, typeOf(type)));
+    }
+
+    @Override
+    public <T> InstanceAccessor<T> asType(TypeReference<T> type) {
+        return toInstance(x -> new Plan.Typed(x, typeOf(type)));
+    }
+
+    @Override
+    public <T> InstanceAccessor<T> at(String pointer, Class<T> type) {
+        return toPointer(pointer, typeOf(type));
+    }
+
+    @Override
+    public <T> InstanceAccessor<T> at(String pointer, TypeReference<T> type) {
+        return toPointer(pointer, typeOf(type));
+    }
+
+    @Override
+    public InstanceAccessor<Map<String, Object>> extract(Map<String, Class<?>> paths) {
+        return toExtract(paths);
+    }
+
+    @Override
+    public NodeAccessor<JsonNode> asLazyNode() {
+        return toNode(Plan.LazyTree::new);
+    }
+}
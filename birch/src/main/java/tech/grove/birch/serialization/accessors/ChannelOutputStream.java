@@ -0,0 +1,82 @@
+package tech.grove.birch.serialization.accessors;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+//-- Collects writes in one direct buffer and hands it to the channel when full, instead of letting the channel
+//-- copy every small heap array into a temporary direct buffer of its own; the channel is owned by the caller.
+//-- Buffers are returned to a small shared pool on close rather than left to the Cleaner, which keeps steady writes
+//-- within MaxDirectMemorySize; a pool rather than a thread local, so virtual threads do not pin one each
+final class ChannelOutputStream extends OutputStream {
+
+    private static final int                       DEFAULT_CAPACITY = 256 * 1024;
+    private static final BlockingQueue<ByteBuffer> POOL             = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private final WritableByteChannel channel;
+    private       ByteBuffer          buffer;
+
+    ChannelOutputStream(WritableByteChannel channel) {
+        var pooled = POOL.poll();
+
+        this.channel = channel;
+        this.buffer  = (pooled != null) ? pooled.clear() : ByteBuffer.allocateDirect(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+
+            var chunk = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (buffer != null) {
+            drain();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+
+        try {
+            drain();
+        } finally {
+            POOL.offer(buffer);
+            buffer = null;
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+}
@@ -0,0 +1,42 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import tech.grove.birch.serialization.creators.AccessorFactory;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.SerializationApi;
+
+import java.io.IOException;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+public class InstanceAccessor<T> extends AbstractAccessor<T, InstanceAccessor<T>> implements SerializationApi.InstanceAccessor<T> {
+
+    public InstanceAccessor(AccessorFactory factory, Plan plan) {
+        super(factory, plan);
+    }
+
+    @Override
+    protected T materialize(Plan plan) throws IOException {
+        return cast(plan.evaluate(codecs()));
+    }
+
+    @Override
+    public JsonAccessor asJson() {
+        return toJson(x -> x);
+    }
+
+    @Override
+    public <N extends JsonNode> NodeAccessor<N> asNode(Class<N> type) {
+        return toNode(x -> new Plan.Tree(x, type));
+    }
+
+    @Override
+    public BytesAccessor asBytes() {
+        return asFormat(MapperMode.JSON);
+    }
+
+    @Override
+    public BytesAccessor asFormat(MapperMode mode) {
+        return toFormat(mode);
+    }
+}
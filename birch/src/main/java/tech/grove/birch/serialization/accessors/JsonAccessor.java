@@ -0,0 +1,83 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import tech.grove.birch.serialization.creators.AccessorFactory;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.SerializationApi;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+public class JsonAccessor extends AbstractAccessor<String, JsonAccessor> implements SerializationApi.JsonAccessor {
+
+    public JsonAccessor(AccessorFactory factory, Plan plan) {
+        super(factory, plan);
+    }
+
+    @Override
+    protected boolean encodes() {
+        return true;
+    }
+
+    @Override
+    protected String materialize(Plan plan) throws IOException {
+        return plan.toText(codecs(), MapperMode.JSON);
+    }
+
+    @Override
+    public String getPretty() {
+        return execute(x -> x.toTree(codecs()).toPrettyString());
+    }
+
+    @Override
+    public void writeTo(Path path) {
+        writeFile(path, x -> MapperMode.JSON);
+    }
+
+    @Override
+    public <N extends JsonNode> NodeAccessor<N> asNode(Class<N> type) {
+        return toNode(x -> new Plan.Tree(x, type));
+    }
+
+    @Override
+    public <T> InstanceAccessor<T> asType(Class<T> type) {
+        return toInstance(x -> new Plan.Typed(x, typeOf(type)));
+    }
+
+    @Override
+    public <T> InstanceAccessor<T> asType(TypeReference<T> type) {
+        return toInstance(x -> new Plan.Typed(x, typeOf(type)));
+    }
+
+    @Override
+    public BytesAccessor asBytes() {
+        return asFormat(MapperMode.JSON);
+    }
+
+    @Override
+    public BytesAccessor asFormat(MapperMode mode) {
+        return toFormat(mode);
+    }
+
+    @Override
+    public <T> InstanceAccessor<T> at(String pointer, Class<T> type) {
+        return toPointer(pointer, typeOf(type));
+    }
+
+    @Override
+    public <T> InstanceAccessor<T> at(String pointer, TypeReference<T> type) {
+        return toPointer(pointer, typeOf(type));
+    }
+
+    @Override
+    public InstanceAccessor<Map<String, Object>> extract(Map<String, Class<?>> paths) {
+        return toExtract(paths);
+    }
+
+    @Override
+    public NodeAccessor<JsonNode> asLazyNode() {
+        return toNode(Plan.LazyTree::new);
+    }
+}
@@ -6,24 +6,43 @@ import tech.grove.birch.serialization.creators.AccessorFactory;
 import tech.grove.birch.serialization.MapperMode;
 import tech.grove.birch.serialization.SerializationApi;
 
+import java.io.IOException;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
 public class NodeAccessor<N extends JsonNode> extends AbstractAccessor<N, NodeAccessor<N>> implements SerializationApi.NodeAccessor<N> {
 
-    public NodeAccessor(AccessorFactory factory) {
-        super(factory);
+    public NodeAccessor(AccessorFactory factory, Plan plan) {
+        super(factory, plan);
+    }
+
+    @Override
+    protected N materialize(Plan plan) throws IOException {
+        return cast(plan.toTree(codecs()));
     }
 
     @Override
     public JsonAccessor asJson() {
-        return toJson(x -> mapper(MapperMode.JSON).writeValueAsString(x));
+        return toJson(x -> x);
     }
 
     @Override
     public <T> InstanceAccessor<T> asType(Class<T> type) {
-        return toInstance(x -> mapper(MapperMode.JSON).treeToValue(x, type));
+        return toInstance(x -> new Plan.Typed(x, typeOf(type)));
     }
 
     @Override
     public <T> InstanceAccessor<T> asType(TypeReference<T> type) {
-        return toInstance(x -> mapper(MapperMode.JSON).treeToValue(x, type));
+        return toInstance(x -> new Plan.Typed(x, typeOf(type)));
+    }
+
+    @Override
+    public BytesAccessor asBytes() {
+        return asFormat(MapperMode.JSON);
+    }
+
+    @Override
+    public BytesAccessor asFormat(MapperMode mode) {
+        return toFormat(mode);
     }
 }
@@ -0,0 +1,457 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.creators.CodecCache;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+import tech.grove.birch.serialization.nodes.LazyNodes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Deferred description of an accessor chain. Each step only records what was asked for; the mapper is
+ * touched once the terminal {@code get()} evaluates the plan, and adjacent steps are fused so that no
+ * intermediate text or tree is produced unless the caller explicitly requests it.
+ */
+public sealed interface Plan permits Plan.Value, Plan.Typed, Plan.Tree, Plan.Encoded, Plan.At, Plan.Extract, Plan.LazyTree, Plan.Mapped {
+
+    enum Form {
+        INSTANCE,
+        TEXT,
+        TREE,
+        BYTES,
+        STREAM;
+
+        boolean isEncoded() {
+            return (this == TEXT || this == BYTES || this == STREAM);
+        }
+    }
+
+    Form form();
+
+    //-- Format of TEXT, BYTES and STREAM values; instances and trees are format-neutral and report JSON
+    MapperMode mode();
+
+    Object evaluate(CodecCache codecs) throws IOException;
+
+    default String toText(CodecCache codecs, MapperMode target) throws IOException {
+        if (form().isEncoded() && mode() != target) {
+            var out = new StringWriter();
+            transcode(codecs, codecs.forMode(target).mapper().createGenerator(out));
+
+            return out.toString();
+        }
+
+        return switch (form()) {
+            case TEXT -> (String) evaluate(codecs);
+            case TREE, INSTANCE -> write(codecs.forMode(target), evaluate(codecs));
+            case BYTES -> StandardCharsets.UTF_8.decode(((ByteBuffer) evaluate(codecs)).duplicate()).toString();
+            case STREAM -> new String(((InputStream) evaluate(codecs)).readAllBytes(), StandardCharsets.UTF_8);
+        };
+    }
+
+    default byte[] toBytes(CodecCache codecs, MapperMode target) throws IOException {
+        if (form().isEncoded() && mode() != target) {
+            var out = new ByteArrayOutputStream();
+            transcode(codecs, generator(codecs.forMode(target), out));
+
+            return out.toByteArray();
+        }
+
+        return switch (form()) {
+            case TEXT -> ((String) evaluate(codecs)).getBytes(StandardCharsets.UTF_8);
+            case TREE, INSTANCE -> writeBytes(codecs.forMode(target), evaluate(codecs));
+            case BYTES -> bytesOf((ByteBuffer) evaluate(codecs));
+            case STREAM -> ((InputStream) evaluate(codecs)).readAllBytes();
+        };
+    }
+
+    default JsonNode toTree(CodecCache codecs) throws IOException {
+        var codec = codecs.forMode(mode());
+
+        return switch (form()) {
+            case TEXT -> codec.mapper().readTree((String) evaluate(codecs));
+            case TREE -> (JsonNode) evaluate(codecs);
+            case INSTANCE -> codec.mapper().valueToTree(evaluate(codecs));
+            case BYTES -> readTree(codec, (ByteBuffer) evaluate(codecs));
+            case STREAM -> codec.mapper().readTree((InputStream) evaluate(codecs));
+        };
+    }
+
+    default Object toType(CodecCache codecs, JavaType type) throws IOException {
+        var codec = codecs.forMode(mode());
+
+        return switch (form()) {
+            case TEXT -> codec.reader(type).readValue((String) evaluate(codecs));
+            case TREE -> codec.reader(type).readValue((JsonNode) evaluate(codecs));
+            case INSTANCE -> convert(codec, evaluate(codecs), type);
+            case BYTES -> read(codec, (ByteBuffer) evaluate(codecs), type);
+            case STREAM -> codec.reader(type).readValue((InputStream) evaluate(codecs));
+        };
+    }
+
+    default void writeTo(CodecCache codecs, MapperMode target, OutputStream out) throws IOException {
+        if (form().isEncoded() && mode() != target) {
+            transcode(codecs, generator(codecs.forMode(target), out));
+            return;
+        }
+
+        switch (form()) {
+            case TEXT -> out.write(((String) evaluate(codecs)).getBytes(StandardCharsets.UTF_8));
+            case TREE, INSTANCE -> write(codecs.forMode(target), evaluate(codecs), out);
+            case BYTES -> write((ByteBuffer) evaluate(codecs), out);
+            case STREAM -> ((InputStream) evaluate(codecs)).transferTo(out);
+        }
+    }
+
+    //-- The plan the chain started from, i.e. what the caller originally handed in
+    default Plan root() {
+        return switch (this) {
+            case Value value -> value;
+            case Mapped mapped -> mapped;
+            case Typed typed -> typed.source().root();
+            case Tree tree -> tree.source().root();
+            case Encoded encoded -> encoded.source().root();
+            case At at -> at.source().root();
+            case Extract extract -> extract.source().root();
+            case LazyTree lazy -> lazy.source().root();
+        };
+    }
+
+    static Plan of(Form form, Object value) {
+        return of(form, MapperMode.JSON, value);
+    }
+
+    static Plan of(Form form, MapperMode mode, Object value) {
+        Optional.ofNullable(mode).orElseThrow(() -> new IllegalArgumentException("mode"));
+
+        return new Value(form, mode, Optional.ofNullable(value).orElseThrow(() -> new IllegalArgumentException("value")));
+    }
+
+    //-- Streams every root value token by token from the source format into the target generator, so a conversion
+    //-- between formats never builds a tree or an intermediate text and runs in constant memory for stream sources
+    private void transcode(CodecCache codecs, JsonGenerator generator) throws IOException {
+        try (var parser = parser(codecs); generator) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    private JsonParser parser(CodecCache codecs) throws IOException {
+        var mapper = codecs.forMode(mode()).mapper();
+
+        return switch (form()) {
+            case TEXT -> mapper.createParser((String) evaluate(codecs));
+            case BYTES -> {
+                var buffer = (ByteBuffer) evaluate(codecs);
+
+                yield buffer.hasArray()
+                      ? mapper.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining())
+                      : mapper.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
+            }
+            case STREAM -> mapper.createParser((InputStream) evaluate(codecs));
+            case TREE, INSTANCE -> throw new IllegalStateException("Plan is not encoded: " + form());
+        };
+    }
+
+    private static Map<JsonPointer, Object> scan(CodecCache codecs, Plan source, Map<JsonPointer, JavaType> types) throws IOException {
+        var codec   = codecs.forMode(source.mode());
+        var readers = new LinkedHashMap<JsonPointer, ObjectReader>();
+
+        types.forEach((pointer, type) -> readers.put(pointer, codec.reader(type)));
+
+        try (var parser = source.form().isEncoded() ? source.parser(codecs) : source.toTree(codecs).traverse(codec.mapper())) {
+            return PointerScanner.scan(parser, readers);
+        }
+    }
+
+    //-- The target stream belongs to the caller, so the generator must not close it
+    private static JsonGenerator generator(Codec codec, OutputStream out) throws IOException {
+        return codec.mapper().createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static String write(Codec codec, Object value) throws IOException {
+        return (value == null) ? codec.mapper().writeValueAsString(null) : codec.writer(value.getClass()).writeValueAsString(value);
+    }
+
+    private static byte[] writeBytes(Codec codec, Object value) throws IOException {
+        return (value == null) ? codec.mapper().writeValueAsBytes(null) : codec.writer(value.getClass()).writeValueAsBytes(value);
+    }
+
+    private static void write(Codec codec, Object value, OutputStream out) throws IOException {
+        try (var generator = generator(codec, out)) {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                codec.writer(value.getClass()).writeValue(generator, value);
+            }
+        }
+    }
+
+    private static void write(ByteBuffer buffer, OutputStream out) throws IOException {
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            Channels.newChannel(out).write(buffer.duplicate());
+        }
+    }
+
+    private static byte[] bytesOf(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+
+        var bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+
+        return bytes;
+    }
+
+    private static JsonNode readTree(Codec codec, ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return codec.mapper().readTree(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            return codec.mapper().readTree(new ByteBufferBackedInputStream(buffer.duplicate()));
+        }
+    }
+
+    private static Object read(Codec codec, ByteBuffer buffer, JavaType type) throws IOException {
+        if (buffer.hasArray()) {
+            return codec.reader(type).readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            return codec.reader(type).readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+        }
+    }
+
+    //-- Same pipeline as ObjectMapper.convertValue, but through the cached reader and writer
+    private static Object convert(Codec codec, Object value, JavaType type) throws IOException {
+        if (value == null) {
+            return null;
+        }
+
+        var mapper = codec.mapper();
+
+        try (var buffer = new TokenBuffer(mapper, false)
+                .forceUseOfBigDecimal(mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS))) {
+            codec.writer(value.getClass()).writeValue(buffer, value);
+
+            try (var parser = buffer.asParser()) {
+                return codec.reader(type).readValue(parser);
+            }
+        }
+    }
+
+    record Value(Form form, MapperMode mode, Object value) implements Plan {
+
+        @Override
+        public Object evaluate(CodecCache codecs) {
+            return value;
+        }
+    }
+
+    record Typed(Plan source, JavaType type) implements Plan {
+
+        @Override
+        public Form form() {
+            return Form.INSTANCE;
+        }
+
+        @Override
+        public MapperMode mode() {
+            return MapperMode.JSON;
+        }
+
+        @Override
+        public Object evaluate(CodecCache codecs) throws IOException {
+            return source.toType(codecs, type);
+        }
+    }
+
+    record Tree(Plan source, Class<? extends JsonNode> type) implements Plan {
+
+        @Override
+        public Form form() {
+            return Form.TREE;
+        }
+
+        @Override
+        public MapperMode mode() {
+            return MapperMode.JSON;
+        }
+
+        @Override
+        public Object evaluate(CodecCache codecs) throws IOException {
+            return type.cast(source.toTree(codecs));
+        }
+
+        //-- Text is re-serialized from the tree so that the output stays normalized; everything else skips the tree
+        @Override
+        public String toText(CodecCache codecs, MapperMode target) throws IOException {
+            return (source.form() == Form.INSTANCE) ? source.toText(codecs, target) : Plan.super.toText(codecs, target);
+        }
+
+        @Override
+        public Object toType(CodecCache codecs, JavaType type) throws IOException {
+            return source.toType(codecs, type);
+        }
+    }
+
+    //-- Serialized form of the source in the given format; every step after it goes back to the source directly,
+    //-- so neither reading it back nor re-encoding it into yet another format decodes the intermediate bytes
+    record Encoded(Plan source, MapperMode mode) implements Plan {
+
+        @Override
+        public Form form() {
+            return Form.BYTES;
+        }
+
+        @Override
+        public Object evaluate(CodecCache codecs) throws IOException {
+            return ByteBuffer.wrap(source.toBytes(codecs, mode));
+        }
+
+        @Override
+        public String toText(CodecCache codecs, MapperMode target) throws IOException {
+            return source.toText(codecs, target);
+        }
+
+        @Override
+        public byte[] toBytes(CodecCache codecs, MapperMode target) throws IOException {
+            return source.toBytes(codecs, target);
+        }
+
+        @Override
+        public JsonNode toTree(CodecCache codecs) throws IOException {
+            return source.toTree(codecs);
+        }
+
+        @Override
+        public Object toType(CodecCache codecs, JavaType type) throws IOException {
+            return source.toType(codecs, type);
+        }
+
+        @Override
+        public void writeTo(CodecCache codecs, MapperMode target, OutputStream out) throws IOException {
+            source.writeTo(codecs, target, out);
+        }
+    }
+
+    //-- Value at a JSON pointer, bound without reading the rest of the document; null when the pointer is absent
+    record At(Plan source, JsonPointer pointer, JavaType type) implements Plan {
+
+        @Override
+        public Form form() {
+            return Form.INSTANCE;
+        }
+
+        @Override
+        public MapperMode mode() {
+            return MapperMode.JSON;
+        }
+
+        @Override
+        public Object evaluate(CodecCache codecs) throws IOException {
+            return scan(codecs, source, Map.of(pointer, type)).get(pointer);
+        }
+    }
+
+    //-- Values at several JSON pointers from a single pass, keyed by pointer in the order given; absent pointers are left out
+    record Extract(Plan source, Map<String, JavaType> paths) implements Plan {
+
+        @Override
+        public Form form() {
+            return Form.INSTANCE;
+        }
+
+        @Override
+        public MapperMode mode() {
+            return MapperMode.JSON;
+        }
+
+        @Override
+        public Object evaluate(CodecCache codecs) throws IOException {
+            var pointers = new LinkedHashMap<JsonPointer, JavaType>();
+
+            paths.forEach((path, type) -> pointers.put(JsonPointer.compile(path), type));
+
+            var found  = scan(codecs, source, pointers);
+            var result = new LinkedHashMap<String, Object>();
+
+            pointers.keySet().stream()
+                    .filter(found::containsKey)
+                    .forEach(x -> result.put(x.toString(), found.get(x)));
+
+            return result;
+        }
+    }
+
+    //-- Tree whose containers are indexed over the JSON bytes of the source only when touched; binding a type goes
+    //-- straight to the source, so the tree is only built for callers that actually navigate it
+    record LazyTree(Plan source) implements Plan {
+
+        @Override
+        public Form form() {
+            return Form.TREE;
+        }
+
+        @Override
+        public MapperMode mode() {
+            return MapperMode.JSON;
+        }
+
+        @Override
+        public Object evaluate(CodecCache codecs) throws IOException {
+            return LazyNodes.of(source.toBytes(codecs, MapperMode.JSON), codecs.forMode(MapperMode.JSON).mapper());
+        }
+
+        @Override
+        public Object toType(CodecCache codecs, JavaType type) throws IOException {
+            return source.toType(codecs, type);
+        }
+    }
+
+    //-- File contents mapped read-only into memory on every evaluation, so parsers read the page cache directly
+    //-- instead of copying the file onto the heap; a mapping is released once the buffer is garbage collected
+    record Mapped(Path path, MapperMode mode) implements Plan {
+
+        @Override
+        public Form form() {
+            return Form.BYTES;
+        }
+
+        @Override
+        public Object evaluate(CodecCache codecs) throws IOException {
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                var size = channel.size();
+
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException(String.format("File is too large to be mapped: %s (%d bytes)", path, size));
+                }
+
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        }
+    }
+}
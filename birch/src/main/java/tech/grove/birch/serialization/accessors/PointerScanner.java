@@ -0,0 +1,115 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//-- Walks a token stream once for a set of JSON pointers: subtrees no pointer leads into are skipped without being
+//-- bound, matched values are bound straight from the stream and reading stops as soon as every pointer is found
+final class PointerScanner {
+
+    private record Target(JsonPointer pointer, JsonPointer remaining) {
+    }
+
+    private final Map<JsonPointer, ObjectReader> readers;
+    private final Map<JsonPointer, Object>       found;
+
+    private PointerScanner(Map<JsonPointer, ObjectReader> readers) {
+        this.readers = readers;
+        this.found   = new HashMap<>();
+    }
+
+    //-- Pointers that are absent from the document are absent from the result; a JSON null is present as null
+    static Map<JsonPointer, Object> scan(JsonParser parser, Map<JsonPointer, ObjectReader> readers) throws IOException {
+        var scanner = new PointerScanner(readers);
+
+        if (parser.nextToken() != null) {
+            scanner.visit(parser, readers.keySet().stream().map(x -> new Target(x, x)).toList());
+        }
+
+        return scanner.found;
+    }
+
+    private boolean isDone() {
+        return (found.size() == readers.size());
+    }
+
+    private void visit(JsonParser parser, List<Target> targets) throws IOException {
+        var matched = targets.stream().filter(x -> x.remaining().matches()).toList();
+
+        if (matched.size() == 1 && targets.size() == 1) {
+            var pointer = matched.getFirst().pointer();
+            found.put(pointer, readers.get(pointer).readValue(parser));
+            return;
+        }
+
+        if (!matched.isEmpty()) {
+            bindFromTree(parser, targets);
+            return;
+        }
+
+        switch (parser.currentToken()) {
+            case START_OBJECT -> {
+                while (!isDone() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                    var name = parser.currentName();
+                    parser.nextToken();
+                    descend(parser, targets, x -> x.matchProperty(name));
+                }
+            }
+            case START_ARRAY -> {
+                var index = 0;
+
+                while (!isDone() && parser.nextToken() != JsonToken.END_ARRAY) {
+                    var element = index++;
+                    descend(parser, targets, x -> x.matchElement(element));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void descend(JsonParser parser, List<Target> targets, Step step) throws IOException {
+        var next = new ArrayList<Target>();
+
+        for (var target : targets) {
+            var remaining = step.apply(target.remaining());
+
+            if (remaining != null) {
+                next.add(new Target(target.pointer(), remaining));
+            }
+        }
+
+        if (next.isEmpty()) {
+            parser.skipChildren();
+        } else {
+            visit(parser, next);
+        }
+    }
+
+    //-- Only when one pointer ends where another one continues (/a and /a/b) is the shared subtree materialized
+    private void bindFromTree(JsonParser parser, List<Target> targets) throws IOException {
+        JsonNode tree = readers.get(targets.getFirst().pointer()).readTree(parser);
+
+        for (var target : targets) {
+            var node = tree.at(target.remaining());
+
+            if (!node.isMissingNode()) {
+                found.put(target.pointer(), readers.get(target.pointer()).readValue(node));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        JsonPointer apply(JsonPointer pointer);
+    }
+}
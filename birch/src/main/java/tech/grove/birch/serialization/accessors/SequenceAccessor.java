@@ -0,0 +1,47 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import tech.grove.birch.delegates.ThrowingSupplier;
+import tech.grove.birch.serialization.SerializationApi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static tech.grove.birch.reflection.Reflector.cast;
+
+public class SequenceAccessor<T> implements SerializationApi.SequenceAccessor<T> {
+
+    private final ThrowingSupplier<MappingIterator<?>, IOException> iterator;
+
+    SequenceAccessor(ThrowingSupplier<MappingIterator<?>, IOException> iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public MappingIterator<T> iterator() {
+        try {
+            return cast(iterator.get());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //-- The stream owns the underlying parser and has to be closed by the caller
+    @Override
+    public Stream<T> get() {
+        var elements = iterator();
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        elements.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,41 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import tech.grove.birch.delegates.ThrowingFunction;
+import tech.grove.birch.serialization.SerializationApi;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+
+import java.io.IOException;
+
+public class SequenceReader implements SerializationApi.SequenceReader {
+
+    private final Codec                                                           codec;
+    private final ThrowingFunction<ObjectReader, MappingIterator<?>, IOException> source;
+
+    public SequenceReader(Codec codec, ThrowingFunction<ObjectReader, MappingIterator<?>, IOException> source) {
+
+        if (source == null) {
+            throw new IllegalArgumentException("source");
+        }
+
+        this.codec  = codec;
+        this.source = source;
+    }
+
+    @Override
+    public <T> SequenceAccessor<T> asType(Class<T> type) {
+        return asType(codec.mapper().constructType(type));
+    }
+
+    @Override
+    public <T> SequenceAccessor<T> asType(TypeReference<T> type) {
+        return asType(codec.mapper().constructType(type));
+    }
+
+    private <T> SequenceAccessor<T> asType(JavaType type) {
+        return new SequenceAccessor<>(() -> source.apply(codec.reader(type)));
+    }
+}
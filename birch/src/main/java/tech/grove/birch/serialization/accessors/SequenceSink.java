@@ -0,0 +1,84 @@
+package tech.grove.birch.serialization.accessors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import tech.grove.birch.delegates.ThrowingSupplier;
+import tech.grove.birch.serialization.SequenceFormat;
+import tech.grove.birch.serialization.SerializationApi;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+public class SequenceSink<T> implements SerializationApi.SequenceSink<T> {
+
+    private static final class Token {
+        public static final String LINE_SEPARATOR = "\n";
+    }
+
+    private final Codec     codec;
+    private final Stream<T> elements;
+
+    public SequenceSink(Codec codec, Stream<T> elements) {
+
+        if (elements == null) {
+            throw new IllegalArgumentException("elements");
+        }
+
+        this.codec    = codec;
+        this.elements = elements;
+    }
+
+    @Override
+    public void writeTo(OutputStream out, SequenceFormat format) {
+        write(() -> codec.mapper().createGenerator(out), format);
+    }
+
+    @Override
+    public void writeTo(Writer out, SequenceFormat format) {
+        write(() -> codec.mapper().createGenerator(out), format);
+    }
+
+    @Override
+    public void writeTo(Path path, SequenceFormat format) {
+        try (var out = Files.newOutputStream(path)) {
+            writeTo(out, format);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    //-- The target belongs to the caller, so neither the sequence nor the generator may close it
+    private void write(ThrowingSupplier<JsonGenerator, IOException> target, SequenceFormat format) {
+        var writer = (format == SequenceFormat.LINES)
+                     ? codec.mapper().writer().withRootValueSeparator(Token.LINE_SEPARATOR)
+                     : codec.mapper().writer();
+
+        try (elements;
+             var generator = target.get().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+
+            var sequence = writer.writeValues(generator);
+
+            if (format == SequenceFormat.ARRAY) {
+                sequence.init(true);
+            }
+
+            var written = false;
+
+            try (sequence) {
+                for (var iterator = elements.iterator(); iterator.hasNext(); written = true) {
+                    sequence.write(iterator.next());
+                }
+            }
+
+            if (format == SequenceFormat.LINES && written) {
+                generator.writeRaw(Token.LINE_SEPARATOR);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
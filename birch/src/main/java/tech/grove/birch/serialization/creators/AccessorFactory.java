@@ -0,0 +1,142 @@
+package tech.grove.birch.serialization.creators;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.MapperResolver;
+import tech.grove.birch.serialization.WarmUpReport;
+import tech.grove.birch.serialization.accessors.AsyncReader;
+import tech.grove.birch.serialization.accessors.BatchAccessor;
+import tech.grove.birch.serialization.accessors.BytesAccessor;
+import tech.grove.birch.serialization.accessors.InstanceAccessor;
+import tech.grove.birch.serialization.accessors.JsonAccessor;
+import tech.grove.birch.serialization.accessors.NodeAccessor;
+import tech.grove.birch.serialization.accessors.Plan;
+import tech.grove.birch.serialization.accessors.SequenceReader;
+import tech.grove.birch.serialization.accessors.SequenceSink;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class AccessorFactory {
+
+    private final MapperResolver mapperResolver;
+    private final CodecCache     codecs;
+
+    public AccessorFactory(MapperResolver mapperResolver) {
+        this(mapperResolver, CodecCache.DEFAULT_CAPACITY);
+    }
+
+    public AccessorFactory(MapperResolver mapperResolver, long codecCapacity) {
+        this.mapperResolver = mapperResolver;
+        this.codecs         = new CodecCache(mapperResolver, codecCapacity);
+    }
+
+    public ObjectMapper mapper(MapperMode mode) {
+        return mapperResolver.resolveFor(mode);
+    }
+
+    public CodecCache.Codec codec(MapperMode mode) {
+        return Optional.ofNullable(mode)
+                .map(codecs::forMode)
+                .orElseThrow(() -> new IllegalArgumentException("mode"));
+    }
+
+    public CodecCache codecs() {
+        return codecs;
+    }
+
+    public JsonAccessor newJson(String json) {
+        return new JsonAccessor(this, Plan.of(Plan.Form.TEXT, json));
+    }
+
+    public <N extends JsonNode> NodeAccessor<N> newNode(N node) {
+        return new NodeAccessor<>(this, Plan.of(Plan.Form.TREE, node));
+    }
+
+    public <I> InstanceAccessor<I> newInstance(I instance) {
+        return new InstanceAccessor<>(this, Plan.of(Plan.Form.INSTANCE, instance));
+    }
+
+    public BytesAccessor newBytes(byte[] bytes) {
+        return new BytesAccessor(this, Plan.of(Plan.Form.BYTES, (bytes == null) ? null : ByteBuffer.wrap(bytes)));
+    }
+
+    public BytesAccessor newBytes(ByteBuffer bytes) {
+        return new BytesAccessor(this, Plan.of(Plan.Form.BYTES, (bytes == null) ? null : bytes.slice()));
+    }
+
+    public BytesAccessor newStream(InputStream stream) {
+        return new BytesAccessor(this, Plan.of(Plan.Form.STREAM, stream));
+    }
+
+    public BytesAccessor newFile(Path path, MapperMode mode) {
+        Optional.ofNullable(path).orElseThrow(() -> new IllegalArgumentException("path"));
+        Optional.ofNullable(mode).orElseThrow(() -> new IllegalArgumentException("mode"));
+
+        return new BytesAccessor(this, new Plan.Mapped(path, mode));
+    }
+
+    public BytesAccessor newText(String text, MapperMode mode) {
+        var textual = Optional.ofNullable(mode)
+                .filter(MapperMode::isTextual)
+                .orElseThrow(() -> new IllegalArgumentException("Text input requires a textual mode: " + mode));
+
+        return new BytesAccessor(this, Plan.of(Plan.Form.TEXT, textual, text));
+    }
+
+    public BytesAccessor newBytes(byte[] bytes, MapperMode mode) {
+        return new BytesAccessor(this, Plan.of(Plan.Form.BYTES, mode, (bytes == null) ? null : ByteBuffer.wrap(bytes)));
+    }
+
+    public BytesAccessor newBytes(ByteBuffer bytes, MapperMode mode) {
+        return new BytesAccessor(this, Plan.of(Plan.Form.BYTES, mode, (bytes == null) ? null : bytes.slice()));
+    }
+
+    public BytesAccessor newStream(InputStream stream, MapperMode mode) {
+        return new BytesAccessor(this, Plan.of(Plan.Form.STREAM, mode, stream));
+    }
+
+    public SequenceReader newSequence(InputStream stream) {
+        return newSequence(stream, MapperMode.JSON);
+    }
+
+    public SequenceReader newSequence(InputStream stream, MapperMode mode) {
+        return new SequenceReader(codec(mode), reader -> reader.readValues(stream));
+    }
+
+    public SequenceReader newSequence(Reader reader) {
+        return new SequenceReader(codec(MapperMode.JSON), x -> x.readValues(reader));
+    }
+
+    public SequenceReader newSequence(Path path) {
+        return newSequence(path, MapperMode.JSON);
+    }
+
+    public SequenceReader newSequence(Path path, MapperMode mode) {
+        return new SequenceReader(codec(mode), reader -> reader.readValues(path.toFile()));
+    }
+
+    public <T> SequenceSink<T> newSequence(Stream<T> elements) {
+        return new SequenceSink<>(codec(MapperMode.JSON), elements);
+    }
+
+    //-- A tiny round trip through the accessors loads the plan/parser/generator classes every first request needs
+    public WarmUpReport warmUp(MapperMode mode, Collection<Class<?>> types) {
+        return Preloader.warmUp(codec(mode), types, () -> newInstance(Map.of("", 0)).asFormat(mode).asType(Map.class).get());
+    }
+
+    public AsyncReader newAsync() {
+        return new AsyncReader(codec(MapperMode.JSON));
+    }
+
+    public <T> BatchAccessor<T> newBatch(Collection<T> instances) {
+        return new BatchAccessor<>(codecs, instances);
+    }
+}
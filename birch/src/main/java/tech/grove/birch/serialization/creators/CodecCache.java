@@ -0,0 +1,108 @@
+package tech.grove.birch.serialization.creators;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.MapperResolver;
+
+import java.util.Map;
+
+//-- One codec per mode, bound to the mapper it was built from. Whenever the resolver hands out another mapper (new
+//-- settings, a registered mapper, a mapper cache eviction) the codec is replaced, so mapper(), readers and writers
+//-- always come from the same instance and a replaced mapper is not kept alive through its readers. Resolvers that
+//-- own their codecs (MapperCache, FluentMapper starters) are asked directly, so codecs are shared per mapper
+public class CodecCache implements CodecResolver {
+
+    public static final long DEFAULT_CAPACITY = 1024;
+
+    private final Map<MapperMode, Codec> codecs = Maps.newConcurrentMap();
+    private final MapperResolver         mapperResolver;
+    private final long                   capacity;
+
+    public CodecCache(MapperResolver mapperResolver) {
+        this(mapperResolver, DEFAULT_CAPACITY);
+    }
+
+    public CodecCache(MapperResolver mapperResolver, long capacity) {
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity");
+        }
+
+        this.mapperResolver = mapperResolver;
+        this.capacity       = capacity;
+    }
+
+    public Codec forMode(MapperMode mode) {
+        if (mapperResolver instanceof CodecResolver resolver) {
+            var shared = resolver.codecFor(mode);
+
+            codecs.put(mode, shared);
+
+            return shared;
+        }
+
+        var mapper = mapperResolver.resolveFor(mode);
+        var codec  = codecs.get(mode);
+
+        if (codec != null && codec.mapper == mapper) {
+            return codec;
+        }
+
+        return codecs.compute(mode, (key, current) -> (current != null && current.mapper == mapper) ? current : new Codec(mapper, capacity));
+    }
+
+    @Override
+    public Codec codecFor(MapperMode mode) {
+        return forMode(mode);
+    }
+
+    //-- Over the codecs last used per mode; shared codecs count the lookups of everyone using them
+    public CacheStats stats() {
+        return codecs.values().stream()
+                .map(Codec::stats)
+                .reduce(new CacheStats(0, 0, 0, 0, 0, 0), CacheStats::plus);
+    }
+
+    public static final class Codec {
+
+        private final ObjectMapper                         mapper;
+        private final LoadingCache<JavaType, ObjectReader> readers;
+        private final LoadingCache<Class<?>, ObjectWriter> writers;
+
+        public Codec(ObjectMapper mapper, long capacity) {
+            this.mapper  = mapper;
+            this.readers = CacheBuilder.newBuilder()
+                    .maximumSize(capacity)
+                    .recordStats()
+                    .build(CacheLoader.from(mapper::readerFor));
+            this.writers = CacheBuilder.newBuilder()
+                    .maximumSize(capacity)
+                    .recordStats()
+                    .build(CacheLoader.from(mapper::writerFor));
+        }
+
+        public ObjectMapper mapper() {
+            return mapper;
+        }
+
+        public ObjectReader reader(JavaType type) {
+            return readers.getUnchecked(type);
+        }
+
+        public ObjectWriter writer(Class<?> type) {
+            return writers.getUnchecked(type);
+        }
+
+        public CacheStats stats() {
+            return readers.stats().plus(writers.stats());
+        }
+    }
+}
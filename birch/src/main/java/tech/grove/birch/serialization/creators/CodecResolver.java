@@ -0,0 +1,18 @@
+package tech.grove.birch.serialization.creators;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.MapperResolver;
+
+//-- A resolver that owns the codecs of the mappers it hands out, so every accessor factory over it shares the same
+//-- warm readers and writers instead of building its own
+@FunctionalInterface
+public interface CodecResolver extends MapperResolver {
+
+    CodecCache.Codec codecFor(MapperMode mode);
+
+    @Override
+    default ObjectMapper resolveFor(MapperMode mode) {
+        return codecFor(mode).mapper();
+    }
+}
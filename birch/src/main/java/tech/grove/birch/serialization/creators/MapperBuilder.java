@@ -0,0 +1,149 @@
+package tech.grove.birch.serialization.creators;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.google.common.collect.Maps;
+import org.yaml.snakeyaml.LoaderOptions;
+import tech.grove.birch.codegen.GeneratedCodecs;
+import tech.grove.birch.patterns.builder.GenericBuilder;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.MapperSettings;
+import tech.grove.birch.serialization.WarmUpReport;
+
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class MapperBuilder extends GenericBuilder<MapperBuilder> {
+
+    private static final Map<MapperMode, Supplier<ObjectMapper>> FACTORIES = Maps.newHashMap();
+
+    static {
+        FACTORIES.put(MapperMode.JSON, ObjectMapper::new);
+        FACTORIES.put(MapperMode.YAML, () -> new ObjectMapper(yamlFactory(new LoaderOptions())));
+        FACTORIES.put(MapperMode.SMILE, () -> new ObjectMapper(new SmileFactory()));
+        FACTORIES.put(MapperMode.CBOR, () -> new ObjectMapper(new CBORFactory()));
+    }
+
+    private static YAMLFactory yamlFactory(LoaderOptions options) {
+        return YAMLFactory.builder()
+                .loaderOptions(options)
+                .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES)
+                .build();
+    }
+
+    public static MapperBuilder mapperFor(MapperMode mode) {
+        return new MapperBuilder(mode, Thread.currentThread().getContextClassLoader());
+    }
+
+    //-- Generated codecs are looked up through this loader as well as birch's own, for records that live in a
+    //-- loader birch cannot see (plugins, webapps) when the thread context loader is not the right one
+    public static MapperBuilder mapperFor(MapperMode mode, ClassLoader loader) {
+        return new MapperBuilder(mode, Optional.ofNullable(loader).orElseThrow(() -> new IllegalArgumentException("loader")));
+    }
+
+    private final MapperMode             mode;
+    private       ObjectMapper           mapper;
+    private final Set<Class<?>>          preloaded = new LinkedHashSet<>();
+    private       Consumer<WarmUpReport> onWarmUp;
+
+    private MapperBuilder(MapperMode mode, ClassLoader loader) {
+        this.mode   = mode;
+        this.mapper = Optional.ofNullable(mode)
+                .map(FACTORIES::get)
+                .map(Supplier::get)
+                .orElseThrow(() -> new IllegalArgumentException("Cannot create mapper for mode: " + mode));
+
+        if (!GeneratedCodecs.codecs(loader).isEmpty()) {
+            mapper.registerModule(GeneratedCodecs.module(loader));
+        }
+    }
+
+    public MapperBuilder configured(Consumer<ObjectMapper> configure) {
+        return setAndReturnThis(configure, x -> x.accept(mapper), NullValueMode.SKIP);
+    }
+
+    public MapperBuilder withIntrospector(JacksonAnnotationIntrospector introspector) {
+        return setAndReturnThis(introspector, mapper::setAnnotationIntrospector, NullValueMode.SKIP);
+    }
+
+    public MapperBuilder withModules(Module... modules) {
+        return setAndReturnThis(modules, module -> Arrays.stream(module)
+                .forEach(mapper::registerModule), NullValueMode.SKIP);
+    }
+
+    public MapperBuilder withSettings(MapperSettings settings) {
+        return setAndReturnThis(settings, this::apply, NullValueMode.SKIP);
+    }
+
+    //-- Replaces reflective property access with LambdaMetafactory-generated accessors (Blackbird); works for any mode
+    public MapperBuilder optimized() {
+        return runAndReturnThis(() -> mapper.registerModule(new BlackbirdModule()));
+    }
+
+    //-- SnakeYAML stops at 3M code points by default, which protects readers of untrusted input; this lifts the limit
+    //-- for this mapper only. The mapper is copied onto the new factory, keeping everything configured so far
+    public MapperBuilder largeDocuments() {
+        return runAndReturnThis(() -> {
+            if (mode == MapperMode.YAML) {
+                var options = new LoaderOptions();
+                options.setCodePointLimit(Integer.MAX_VALUE);
+
+                mapper = mapper.copyWith(yamlFactory(options));
+            }
+        });
+    }
+
+    //-- Types whose serializers, deserializers and Reflector metadata are built by build(), in parallel
+    public MapperBuilder preload(Class<?>... types) {
+        return setAndReturnThis(types, x -> preloaded.addAll(Arrays.asList(x)), NullValueMode.SKIP);
+    }
+
+    public MapperBuilder preload(String packageName) {
+        return setAndReturnThis(packageName, x -> preloaded.addAll(Preloader.scan(x)), NullValueMode.SKIP);
+    }
+
+    public MapperBuilder onWarmUp(Consumer<WarmUpReport> listener) {
+        return setAndReturnThis(listener, x -> onWarmUp = x, NullValueMode.SKIP);
+    }
+
+    public ObjectMapper build() {
+        if (!preloaded.isEmpty()) {
+            var report = Preloader.warmUp(mapper, preloaded);
+
+            Optional.ofNullable(onWarmUp).ifPresent(x -> x.accept(report));
+        }
+
+        return mapper;
+    }
+
+    private void apply(MapperSettings settings) {
+        Optional.ofNullable(settings.naming()).ifPresent(mapper::setPropertyNamingStrategy);
+        Optional.ofNullable(settings.dateFormat()).map(SimpleDateFormat::new).ifPresent(mapper::setDateFormat);
+        Optional.ofNullable(settings.timeZone()).map(TimeZone::getTimeZone).ifPresent(mapper::setTimeZone);
+        Optional.ofNullable(settings.inclusion()).ifPresent(mapper::setSerializationInclusion);
+
+        settings.serialization().forEach(mapper::configure);
+        settings.deserialization().forEach(mapper::configure);
+
+        if (settings.optimized()) {
+            optimized();
+        }
+
+        if (settings.largeDocuments()) {
+            largeDocuments();
+        }
+    }
+}
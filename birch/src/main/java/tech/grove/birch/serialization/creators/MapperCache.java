@@ -0,0 +1,80 @@
+package tech.grove.birch.serialization.creators;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import tech.grove.birch.serialization.MapperMode;
+import tech.grove.birch.serialization.MapperSettings;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+//-- Size-bounded, least-recently-used pool of mappers keyed by mode and settings fingerprint, shared by every
+//-- resolver handed out, so equivalent configurations reuse one warmed-up mapper instead of building their own.
+//-- Mappers for MapperSettings.DEFAULT are pinned outside the bound, so tenant churn never evicts them. Each entry
+//-- carries the mapper's codec, so readers and writers are shared by every starter and evicted with their mapper
+public class MapperCache {
+
+    public static final long   DEFAULT_CAPACITY  = 64;
+    public static final String CAPACITY_PROPERTY = "tech.grove.birch.mapperCache.capacity";
+
+    private record Key(MapperMode mode, MapperSettings settings) {
+    }
+
+    private final BiFunction<MapperMode, MapperSettings, ObjectMapper> builder;
+    private final Map<MapperMode, CodecCache.Codec>                    pinned = Maps.newConcurrentMap();
+    private final LoadingCache<Key, CodecCache.Codec>                  mappers;
+
+    public MapperCache(BiFunction<MapperMode, MapperSettings, ObjectMapper> builder) {
+        this(builder, DEFAULT_CAPACITY);
+    }
+
+    public MapperCache(BiFunction<MapperMode, MapperSettings, ObjectMapper> builder, long capacity) {
+
+        Optional.ofNullable(builder).orElseThrow(() -> new IllegalArgumentException("builder"));
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity");
+        }
+
+        this.builder = builder;
+        this.mappers = CacheBuilder.newBuilder()
+                .maximumSize(capacity)
+                .recordStats()
+                .build(CacheLoader.from(key -> codecFor(key.mode(), key.settings())));
+    }
+
+    public CodecResolver resolverFor(MapperSettings settings) {
+
+        Optional.ofNullable(settings).orElseThrow(() -> new IllegalArgumentException("settings"));
+
+        if (MapperSettings.DEFAULT.equals(settings)) {
+            return mode -> pinned.computeIfAbsent(mode, m -> codecFor(m, settings));
+        }
+
+        return mode -> mappers.getUnchecked(new Key(mode, settings));
+    }
+
+    private CodecCache.Codec codecFor(MapperMode mode, MapperSettings settings) {
+        return new CodecCache.Codec(builder.apply(mode, settings), CodecCache.DEFAULT_CAPACITY);
+    }
+
+    //-- Bounded entries only; the pinned default mappers are not counted
+    public long size() {
+        return mappers.size();
+    }
+
+    //-- Hits, misses, load time and evictionCount() for sizing the capacity against the number of distinct tenants
+    public CacheStats stats() {
+        return mappers.stats();
+    }
+
+    public void invalidateAll() {
+        pinned.clear();
+        mappers.invalidateAll();
+    }
+}
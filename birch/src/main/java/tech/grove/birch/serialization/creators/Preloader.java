@@ -0,0 +1,162 @@
+package tech.grove.birch.serialization.creators;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import tech.grove.birch.reflection.Reflector;
+import tech.grove.birch.serialization.WarmUpReport;
+import tech.grove.birch.serialization.creators.CodecCache.Codec;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+
+//-- Builds root serializers, deserializers and Reflector metadata for known types before the first request needs
+//-- them. The lookups are the ones ObjectReader/ObjectWriter would do lazily, made explicitly so that failures are
+//-- reported instead of being swallowed by the eager prefetch. Types are warmed in parallel on the common pool
+public final class Preloader {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private Preloader() {
+    }
+
+    public static WarmUpReport warmUp(ObjectMapper mapper, Collection<Class<?>> types) {
+        return run(types, type -> warm(mapper, type), null);
+    }
+
+    //-- Also primes the codec's reader/writer caches, which is where accessors look first; the primer runs once
+    //-- before the types and is part of the reported time
+    public static WarmUpReport warmUp(Codec codec, Collection<Class<?>> types, Runnable primer) {
+        return run(types, type -> {
+            var mapper = codec.mapper();
+
+            warm(mapper, type);
+            codec.writer(type);
+            codec.reader(mapper.constructType(type));
+        }, primer);
+    }
+
+    //-- Concrete, non-local classes of a package and its subpackages, from directories and jars on the class path
+    public static List<Class<?>> scan(String packageName) {
+
+        if (packageName == null || packageName.isBlank()) {
+            throw new IllegalArgumentException("packageName");
+        }
+
+        var loader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(Preloader.class.getClassLoader());
+        var path   = packageName.replace('.', '/');
+        var names  = new TreeSet<String>();
+
+        try {
+            for (var resources = loader.getResources(path); resources.hasMoreElements(); ) {
+                var resource = resources.nextElement();
+
+                switch (resource.getProtocol()) {
+                    case "file" -> scanDirectory(Path.of(resource.toURI()), packageName, names);
+                    case "jar" -> scanJar((JarURLConnection) resource.openConnection(), path, names);
+                    default -> {
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+
+        return names.stream()
+                .<Class<?>>map(name -> load(name, loader))
+                .filter(Objects::nonNull)
+                .filter(Preloader::isWarmable)
+                .toList();
+    }
+
+    private static WarmUpReport run(Collection<Class<?>> types, Warmer warmer, Runnable primer) {
+        var start    = System.nanoTime();
+        var unique   = new ArrayList<>(new LinkedHashSet<>(Optional.ofNullable(types).orElseGet(List::of)));
+        var failures = new ConcurrentHashMap<Class<?>, Throwable>();
+
+        unique.removeIf(Objects::isNull);
+        Optional.ofNullable(primer).ifPresent(Runnable::run);
+        unique.parallelStream().forEach(type -> {
+            try {
+                warmer.warm(type);
+                Reflector.type(type).properties();
+            } catch (Exception | LinkageError e) {
+                failures.put(type, e);
+            }
+        });
+
+        return new WarmUpReport(unique.size(), Duration.ofNanos(System.nanoTime() - start), Map.copyOf(failures));
+    }
+
+    private static void warm(ObjectMapper mapper, Class<?> type) throws IOException {
+        var context = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createDummyInstance(mapper.getDeserializationConfig());
+
+        mapper.getSerializerProviderInstance().findTypedValueSerializer(type, true, null);
+        context.findRootValueDeserializer(mapper.constructType(type));
+    }
+
+    private static void scanDirectory(Path directory, String packageName, Collection<String> names) throws IOException {
+        try (var files = Files.walk(directory)) {
+            files.map(directory::relativize)
+                    .map(Path::toString)
+                    .filter(x -> x.endsWith(CLASS_SUFFIX))
+                    .map(x -> packageName + "." + x.substring(0, x.length() - CLASS_SUFFIX.length()).replace(directory.getFileSystem().getSeparator(), "."))
+                    .forEach(names::add);
+        }
+    }
+
+    private static void scanJar(JarURLConnection connection, String path, Collection<String> names) throws IOException {
+        connection.setUseCaches(false);
+
+        try (var jar = connection.getJarFile()) {
+            jar.stream()
+                    .map(JarEntry::getName)
+                    .filter(x -> x.startsWith(path + "/") && x.endsWith(CLASS_SUFFIX))
+                    .map(x -> x.substring(0, x.length() - CLASS_SUFFIX.length()).replace('/', '.'))
+                    .forEach(names::add);
+        }
+    }
+
+    private static Class<?> load(String name, ClassLoader loader) {
+        if (name.endsWith("package-info") || name.endsWith("module-info")) {
+            return null;
+        }
+
+        try {
+            return Class.forName(name, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static boolean isWarmable(Class<?> type) {
+        return !type.isInterface()
+               && !type.isAnnotation()
+               && !type.isAnonymousClass()
+               && !type.isLocalClass()
+               && !type.isSynthetic()
+               && !Modifier.isAbstract(type.getModifiers())
+               && (!type.isMemberClass() || Modifier.isStatic(type.getModifiers()));
+    }
+
+    @FunctionalInterface
+    private interface Warmer {
+        void warm(Class<?> type) throws IOException;
+    }
+}
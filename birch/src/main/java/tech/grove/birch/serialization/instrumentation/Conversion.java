@@ -0,0 +1,20 @@
+package tech.grove.birch.serialization.instrumentation;
+
+import tech.grove.birch.serialization.MapperMode;
+
+//-- One finished accessor terminal. The type is the source class when encoding and the result class when decoding;
+//-- sizes are -1 when unknown, e.g. for streams, mapped files or writes into a caller's stream
+public record Conversion(Operation operation,
+                         MapperMode mode,
+                         Class<?> type,
+                         long durationNanos,
+                         long inputBytes,
+                         long inputChars,
+                         long outputBytes,
+                         long outputChars,
+                         Throwable failure) {
+
+    public boolean isFailed() {
+        return (failure != null);
+    }
+}
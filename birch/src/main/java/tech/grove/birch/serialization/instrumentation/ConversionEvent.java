@@ -0,0 +1,42 @@
+package tech.grove.birch.serialization.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Category("Birch")
+@StackTrace(false)
+abstract class ConversionEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Input Size")
+    @DataAmount
+    long inputSize;
+
+    @Label("Output Size")
+    @DataAmount
+    long outputSize;
+
+    @Label("Failed")
+    boolean failed;
+
+    @Name("birch.Serialize")
+    @Label("Serialize")
+    static final class Serialize extends ConversionEvent {
+    }
+
+    @Name("birch.Deserialize")
+    @Label("Deserialize")
+    static final class Deserialize extends ConversionEvent {
+    }
+}
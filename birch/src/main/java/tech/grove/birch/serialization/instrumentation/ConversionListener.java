@@ -0,0 +1,7 @@
+package tech.grove.birch.serialization.instrumentation;
+
+//-- Called on the converting thread after every accessor terminal while registered; keep it cheap and non-blocking
+@FunctionalInterface
+public interface ConversionListener {
+    void onConversion(Conversion conversion);
+}
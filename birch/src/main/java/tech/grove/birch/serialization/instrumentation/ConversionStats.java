@@ -0,0 +1,97 @@
+package tech.grove.birch.serialization.instrumentation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+//-- Ready-made listener keeping a latency histogram, sizes and failure counts per operation and type.
+//-- Buckets are powers of two in nanoseconds, so percentiles are upper bounds within a factor of two
+public class ConversionStats implements ConversionListener {
+
+    private static final int BUCKETS = 64;
+
+    public record Key(Operation operation, Class<?> type) {
+    }
+
+    public record Summary(long count, long failures, long totalNanos, long maxNanos, long bytes, long chars, long[] histogram) {
+
+        public double meanNanos() {
+            return (count == 0) ? 0 : (double) totalNanos / count;
+        }
+
+        public long percentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 1) {
+                throw new IllegalArgumentException("percentile");
+            }
+
+            var target = (long) Math.ceil(count * percentile);
+            var seen   = 0L;
+
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+
+                if (seen >= target && seen > 0) {
+                    return Math.min(maxNanos, (i == BUCKETS - 1) ? Long.MAX_VALUE : (1L << i));
+                }
+            }
+
+            return 0;
+        }
+    }
+
+    private static final class Accumulator {
+
+        private final LongAdder       count      = new LongAdder();
+        private final LongAdder       failures   = new LongAdder();
+        private final LongAdder       totalNanos = new LongAdder();
+        private final LongAdder       bytes      = new LongAdder();
+        private final LongAdder       chars      = new LongAdder();
+        private final LongAccumulator maxNanos   = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram  = new AtomicLongArray(BUCKETS);
+
+        private void add(Conversion conversion) {
+            var nanos = Math.max(0, conversion.durationNanos());
+
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos)));
+
+            if (conversion.isFailed()) {
+                failures.increment();
+            }
+
+            bytes.add(Math.max(0, conversion.inputBytes()) + Math.max(0, conversion.outputBytes()));
+            chars.add(Math.max(0, conversion.inputChars()) + Math.max(0, conversion.outputChars()));
+        }
+
+        private Summary summary() {
+            var buckets = new long[BUCKETS];
+
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = histogram.get(i);
+            }
+
+            return new Summary(count.sum(), failures.sum(), totalNanos.sum(), maxNanos.get(), bytes.sum(), chars.sum(), buckets);
+        }
+    }
+
+    private final Map<Key, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    @Override
+    public void onConversion(Conversion conversion) {
+        accumulators.computeIfAbsent(new Key(conversion.operation(), conversion.type()), x -> new Accumulator()).add(conversion);
+    }
+
+    public Map<Key, Summary> snapshot() {
+        return accumulators.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, x -> x.getValue().summary()));
+    }
+
+    public void reset() {
+        accumulators.clear();
+    }
+}
@@ -0,0 +1,88 @@
+package tech.grove.birch.serialization.instrumentation;
+
+import jdk.jfr.EventType;
+import tech.grove.birch.serialization.MapperMode;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+//-- Off unless a listener is registered or a JFR recording enables birch.Serialize/birch.Deserialize; while off,
+//-- accessors pay one volatile read and a couple of flag checks per terminal and never touch the clock
+public final class Instrumentation {
+
+    private static final EventType SERIALIZE   = EventType.getEventType(ConversionEvent.Serialize.class);
+    private static final EventType DESERIALIZE = EventType.getEventType(ConversionEvent.Deserialize.class);
+
+    private static volatile ConversionListener[] listeners = new ConversionListener[0];
+
+    private Instrumentation() {
+    }
+
+    public static synchronized void register(ConversionListener listener) {
+        Optional.ofNullable(listener).orElseThrow(() -> new IllegalArgumentException("listener"));
+
+        var updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    public static synchronized void unregister(ConversionListener listener) {
+        listeners = Arrays.stream(listeners)
+                .filter(x -> x != listener)
+                .toArray(ConversionListener[]::new);
+    }
+
+    public static boolean isActive() {
+        return (listeners.length > 0 || SERIALIZE.isEnabled() || DESERIALIZE.isEnabled());
+    }
+
+    public static Measurement begin(Operation operation) {
+        return new Measurement(operation);
+    }
+
+    public static final class Measurement {
+
+        private final Operation       operation;
+        private final ConversionEvent event;
+        private final long            start;
+
+        private Measurement(Operation operation) {
+            this.operation = operation;
+            this.event     = operation.encodes() ? new ConversionEvent.Serialize() : new ConversionEvent.Deserialize();
+            this.event.begin();
+            this.start     = System.nanoTime();
+        }
+
+        public void end(MapperMode mode, Class<?> type, long inputBytes, long inputChars, long outputBytes, long outputChars, Throwable failure) {
+            var duration = System.nanoTime() - start;
+
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.operation  = operation.name();
+                event.mode       = mode.name();
+                event.type       = type;
+                event.inputSize  = Math.max(inputBytes, inputChars);
+                event.outputSize = Math.max(outputBytes, outputChars);
+                event.failed     = (failure != null);
+                event.commit();
+            }
+
+            var current = listeners;
+
+            if (current.length == 0) {
+                return;
+            }
+
+            var conversion = new Conversion(operation, mode, type, duration, inputBytes, inputChars, outputBytes, outputChars, failure);
+
+            //-- A broken listener must never fail the conversion it observes
+            for (var listener : current) {
+                try {
+                    listener.onConversion(conversion);
+                } catch (RuntimeException ignored) {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package tech.grove.birch.serialization.instrumentation;
+
+public enum Operation {
+    SERIALIZE,
+    DESERIALIZE,
+    TRANSCODE,
+    CONVERT;
+
+    public static Operation of(boolean fromEncoded, boolean toEncoded) {
+        if (fromEncoded) {
+            return toEncoded ? TRANSCODE : DESERIALIZE;
+        }
+
+        return toEncoded ? SERIALIZE : CONVERT;
+    }
+
+    public boolean encodes() {
+        return (this == SERIALIZE || this == TRANSCODE);
+    }
+}
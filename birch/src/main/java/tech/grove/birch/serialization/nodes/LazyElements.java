@@ -0,0 +1,128 @@
+package tech.grove.birch.serialization.nodes;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+//-- Children of a lazy ArrayNode: reads by index only need the offsets of this array, mutations switch to an ArrayList
+final class LazyElements extends AbstractList<JsonNode> implements RandomAccess {
+
+    private final Source source;
+    private final int    position;
+
+    private List<JsonToken> tokens;
+    private int[]           offsets;
+    private int[]           limits;
+    private JsonNode[]      values;
+    private List<JsonNode>  delegate;
+
+    LazyElements(Source source, int position) {
+        this.source   = source;
+        this.position = position;
+    }
+
+    @Override
+    public synchronized JsonNode get(int index) {
+        if (delegate != null) {
+            return delegate.get(index);
+        }
+
+        index();
+
+        if (values[index] == null) {
+            values[index] = source.value(tokens.get(index), offsets[index], limits[index]);
+        }
+
+        return values[index];
+    }
+
+    @Override
+    public synchronized int size() {
+        if (delegate != null) {
+            return delegate.size();
+        }
+
+        index();
+
+        return offsets.length;
+    }
+
+    @Override
+    public synchronized JsonNode set(int index, JsonNode element) {
+        return materialized().set(index, element);
+    }
+
+    @Override
+    public synchronized void add(int index, JsonNode element) {
+        materialized().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public synchronized JsonNode remove(int index) {
+        modCount++;
+        return materialized().remove(index);
+    }
+
+    @Override
+    public synchronized void clear() {
+        materialized().clear();
+        modCount++;
+    }
+
+    private void index() {
+        if (offsets != null) {
+            return;
+        }
+
+        var kinds     = new ArrayList<JsonToken>();
+        var positions = new ArrayList<Integer>();
+        var ends      = new ArrayList<Integer>();
+
+        try (var parser = source.parser(position)) {
+            parser.nextToken();
+
+            for (var token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                kinds.add(token);
+                positions.add(source.position(parser, position));
+                ends.add(source.limit(parser, position));
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.tokens  = kinds;
+        this.values  = new JsonNode[kinds.size()];
+        this.offsets = positions.stream().mapToInt(Integer::intValue).toArray();
+        this.limits  = ends.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private List<JsonNode> materialized() {
+        if (delegate != null) {
+            return delegate;
+        }
+
+        index();
+
+        var all = new ArrayList<JsonNode>(offsets.length);
+
+        for (int i = 0; i < offsets.length; i++) {
+            all.add((values[i] != null) ? values[i] : source.value(tokens.get(i), offsets[i], limits[i]));
+        }
+
+        tokens   = null;
+        offsets  = null;
+        limits   = null;
+        values   = null;
+        delegate = all;
+
+        return delegate;
+    }
+}
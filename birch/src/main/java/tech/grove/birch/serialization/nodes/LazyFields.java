@@ -0,0 +1,186 @@
+package tech.grove.birch.serialization.nodes;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//-- Children of a lazy ObjectNode. Lookups, size and containsKey only need the index of this object; anything that
+//-- iterates or mutates switches to a plain LinkedHashMap built in one pass, whose nested containers stay lazy
+final class LazyFields extends AbstractMap<String, JsonNode> {
+
+    private final Source source;
+    private final int    position;
+
+    private List<String>          names;
+    private List<JsonToken>       tokens;
+    private int[]                 offsets;
+    private int[]                 limits;
+    private JsonNode[]            values;
+    private Map<String, Integer>  slots;
+    private Map<String, JsonNode> delegate;
+
+    LazyFields(Source source, int position) {
+        this.source   = source;
+        this.position = position;
+    }
+
+    @Override
+    public synchronized JsonNode get(Object key) {
+        if (delegate != null) {
+            return delegate.get(key);
+        }
+
+        index();
+
+        var slot = slots.get(key);
+
+        if (slot == null) {
+            return null;
+        }
+
+        if (values[slot] == null) {
+            values[slot] = source.value(tokens.get(slot), offsets[slot], limits[slot]);
+        }
+
+        return values[slot];
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        if (delegate != null) {
+            return delegate.containsKey(key);
+        }
+
+        index();
+
+        return slots.containsKey(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        if (delegate != null) {
+            return delegate.size();
+        }
+
+        index();
+
+        return names.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (size() == 0);
+    }
+
+    @Override
+    public synchronized JsonNode put(String key, JsonNode value) {
+        return materialized().put(key, value);
+    }
+
+    @Override
+    public synchronized JsonNode remove(Object key) {
+        return materialized().remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        materialized().clear();
+    }
+
+    @Override
+    public synchronized Set<Entry<String, JsonNode>> entrySet() {
+        return materialized().entrySet();
+    }
+
+    //-- Names and offsets of the direct children; nested containers are skipped, not parsed
+    private void index() {
+        if (names != null) {
+            return;
+        }
+
+        var keys      = new ArrayList<String>();
+        var kinds     = new ArrayList<JsonToken>();
+        var positions = new ArrayList<Integer>();
+        var ends      = new ArrayList<Integer>();
+        var lookup    = new HashMap<String, Integer>();
+
+        try (var parser = source.parser(position)) {
+            parser.nextToken();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var name  = parser.currentName();
+                var token = parser.nextToken();
+                var slot  = lookup.get(name);
+
+                //-- Duplicate names keep their first position and their last value, like ObjectNode.set
+                if (slot == null) {
+                    lookup.put(name, keys.size());
+                    keys.add(name);
+                    kinds.add(token);
+                    positions.add(source.position(parser, position));
+                    ends.add(source.limit(parser, position));
+                } else {
+                    kinds.set(slot, token);
+                    positions.set(slot, source.position(parser, position));
+                    ends.set(slot, source.limit(parser, position));
+                }
+
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.tokens  = kinds;
+        this.offsets = positions.stream().mapToInt(Integer::intValue).toArray();
+        this.limits  = ends.stream().mapToInt(Integer::intValue).toArray();
+        this.values  = new JsonNode[keys.size()];
+        this.slots   = lookup;
+        this.names   = keys;
+    }
+
+    private Map<String, JsonNode> materialized() {
+        if (delegate != null) {
+            return delegate;
+        }
+
+        var all = new LinkedHashMap<String, JsonNode>();
+
+        if (names != null) {
+            for (int i = 0; i < names.size(); i++) {
+                all.put(names.get(i), (values[i] != null) ? values[i] : source.value(tokens.get(i), offsets[i], limits[i]));
+            }
+        } else {
+            try (var parser = source.parser(position)) {
+                parser.nextToken();
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    var name = parser.currentName();
+                    parser.nextToken();
+                    all.put(name, source.value(parser, position));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        names    = null;
+        tokens   = null;
+        offsets  = null;
+        limits   = null;
+        values   = null;
+        slots    = null;
+        delegate = all;
+
+        return delegate;
+    }
+}
@@ -0,0 +1,38 @@
+package tech.grove.birch.serialization.nodes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+//-- Tree view over raw JSON bytes: objects and arrays are regular ObjectNode/ArrayNode instances whose children are
+//-- indexed (names and byte offsets) the first time they are touched, and values are only parsed when read.
+//-- Untouched subtrees cost nothing but the shared byte array; the bytes must not be modified while the view is in use
+public final class LazyNodes {
+
+    private LazyNodes() {
+    }
+
+    public static JsonNode of(byte[] bytes, ObjectMapper mapper) {
+        Optional.ofNullable(bytes).orElseThrow(() -> new IllegalArgumentException("bytes"));
+
+        return of(bytes, 0, bytes.length, mapper);
+    }
+
+    public static JsonNode of(byte[] bytes, int offset, int length, ObjectMapper mapper) {
+        Optional.ofNullable(bytes).orElseThrow(() -> new IllegalArgumentException("bytes"));
+        Optional.ofNullable(mapper).orElseThrow(() -> new IllegalArgumentException("mapper"));
+
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IllegalArgumentException("offset");
+        }
+
+        try {
+            return new Source(bytes, offset + length, mapper).root(offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package tech.grove.birch.serialization.nodes;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+//-- The shared byte array behind a lazy tree, and everything that reads from it
+record Source(byte[] bytes, int end, ObjectMapper mapper) {
+
+    JsonNode root(int offset) throws IOException {
+        try (var parser = parser(offset)) {
+            var token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                return container(token, offset + (int) parser.currentTokenLocation().getByteOffset());
+            }
+
+            return (token == null) ? mapper.missingNode() : mapper.readTree(parser);
+        }
+    }
+
+    JsonParser parser(int offset) throws IOException {
+        return parser(offset, end);
+    }
+
+    JsonParser parser(int offset, int limit) throws IOException {
+        return mapper.createParser(bytes, offset, limit - offset);
+    }
+
+    //-- Absolute offset of the current token of a parser that was started at the given offset
+    int position(JsonParser parser, int offset) {
+        return offset + (int) parser.currentTokenLocation().getByteOffset();
+    }
+
+    //-- Absolute offset right after the current scalar token; a scalar is later re-parsed only up to there, because
+    //-- a parser started in the middle of the document treats it as a root value and rejects the separator after it
+    int limit(JsonParser parser, int offset) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            return end;
+        }
+
+        parser.finishToken();
+
+        return offset + (int) parser.currentLocation().getByteOffset();
+    }
+
+    //-- Containers become lazy nodes that are not indexed yet; scalars are parsed on the spot
+    JsonNode value(JsonParser parser, int offset) throws IOException {
+        var token = parser.currentToken();
+
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            var node = container(token, position(parser, offset));
+            parser.skipChildren();
+
+            return node;
+        }
+
+        return mapper.readTree(parser);
+    }
+
+    JsonNode value(JsonToken token, int position, int limit) {
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            return container(token, position);
+        }
+
+        try (var parser = parser(position, limit)) {
+            parser.nextToken();
+
+            return mapper.readTree(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode container(JsonToken token, int position) {
+        return (token == JsonToken.START_OBJECT)
+               ? new ObjectNode(mapper.getNodeFactory(), new LazyFields(this, position))
+               : new ArrayNode(mapper.getNodeFactory(), new LazyElements(this, position));
+    }
+}
@@ -1,6 +0,0 @@
-package tech.grove.birch.serialization;
-
-public enum MapperMode {
-    JSON,
-    YAML
-}